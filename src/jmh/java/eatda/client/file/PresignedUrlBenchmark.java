@@ -0,0 +1,77 @@
+package eatda.client.file;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// 사전 서명은 네트워크 없이 로컬에서 서명만 계산하므로 임의의 자격 증명으로 측정한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresignedUrlBenchmark {
+
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(5);
+
+    @Param({"1", "8", "32"})
+    private int fileCount;
+
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private FileClient fileClient;
+    private List<String> fileKeys;
+
+    @Setup
+    public void setUp() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key"));
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .build();
+        fileClient = new FileClient(s3Client, "eatda-storage-benchmark", s3Presigner, new SimpleMeterRegistry());
+        fileKeys = IntStream.range(0, fileCount)
+                .mapToObj(i -> "temp/" + UUID.randomUUID() + ".jpg")
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        fileClient.shutdown();
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    // 변경 전처럼 파일마다 FileClient 를 한 번씩 호출한다
+    @Benchmark
+    public List<String> perFile() {
+        return fileKeys.stream()
+                .map(fileKey -> fileClient.generateUploadPresignedUrls(List.of(fileKey), SIGNATURE_DURATION).getFirst())
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> batch() {
+        return fileClient.generateUploadPresignedUrls(fileKeys, SIGNATURE_DURATION);
+    }
+}
@@ -0,0 +1,68 @@
+package eatda.controller.web.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtResolveBenchmark {
+
+    private static final JwtProperties JWT_PROPERTIES = new JwtProperties(
+            "secretKey".repeat(32), Duration.ofHours(1), Duration.ofDays(14));
+    private static final long MEMBER_ID = 12345L;
+
+    private JwtManager cachedManager;
+    private String cachedToken;
+
+    private JwtManager emptyManager;
+    private String uncachedToken;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        cachedManager = new JwtManager(JWT_PROPERTIES);
+        cachedToken = cachedManager.issueAccessToken(MEMBER_ID);
+        cachedManager.resolveAccessToken(cachedToken);
+    }
+
+    // 캐시에 없는 상태를 측정하려고 호출마다 빈 캐시를 가진 JwtManager 를 준비한다
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        emptyManager = new JwtManager(JWT_PROPERTIES);
+        uncachedToken = emptyManager.issueAccessToken(MEMBER_ID);
+    }
+
+    @Benchmark
+    public long cacheHit() {
+        return cachedManager.resolveAccessToken(cachedToken);
+    }
+
+    @Benchmark
+    public long cacheMissWithSharedParser() {
+        return emptyManager.resolveAccessToken(uncachedToken);
+    }
+
+    // 변경 전처럼 요청마다 서명 키를 만들고 parserBuilder() 로 파서를 새로 만든다
+    @Benchmark
+    public long perCallParserBuilder() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(JWT_PROPERTIES.getSecretKey())
+                .build()
+                .parseClaimsJws(uncachedToken)
+                .getBody();
+        if (!TokenType.ACCESS_TOKEN.name().equals(claims.get("type", String.class))) {
+            throw new IllegalStateException();
+        }
+        return Long.parseLong(claims.getSubject());
+    }
+}
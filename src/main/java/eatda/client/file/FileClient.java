@@ -2,45 +2,119 @@ package eatda.client.file;
 
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+@Slf4j
 @Component
 public class FileClient {
 
-    private static final int THREAD_POOL_SIZE = 5; // TODO 비동기 병렬처리 개선
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 8;
+    private static final int MAX_CONCURRENT_MOVES = 16;
+    private static final int MAX_DELETE_BATCH_SIZE = 1_000;
+    private static final Duration API_CALL_TIMEOUT = Duration.ofSeconds(5);
+    private static final int MAX_ATTEMPT_COUNT = 3;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
     private final S3Client s3Client;
     private final String bucket;
     private final S3Presigner s3Presigner;
     private final ExecutorService executorService;
+    private final Semaphore movePermits;
+    private final Timer moveTimer;
+    private final DistributionSummary s3CallsPerRegistration;
 
     public FileClient(S3Client s3Client,
                       @Value("${spring.cloud.aws.s3.bucket}") String bucket,
-                      S3Presigner s3Presigner) {
+                      S3Presigner s3Presigner,
+                      MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
         this.bucket = bucket;
         this.s3Presigner = s3Presigner;
-        this.executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.movePermits = new Semaphore(MAX_CONCURRENT_MOVES);
+        this.moveTimer = Timer.builder("file.move")
+                .description("임시 파일 하나를 영구 위치로 옮기는 데 걸린 시간")
+                .register(meterRegistry);
+        this.s3CallsPerRegistration = DistributionSummary.builder("file.move.s3.calls")
+                .description("등록 한 건의 이미지를 옮기는 데 사용한 S3 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("file.move.waiting", movePermits, Semaphore::getQueueLength)
+                .description("동시 이동 한도에 걸려 대기 중인 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("file.move.active", movePermits, permits -> MAX_CONCURRENT_MOVES - permits.availablePermits())
+                .description("이동 중인 파일 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.close();
     }
 
-    public String generateUploadPresignedUrl(String fileKey, Duration signatureDuration) {
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+    public List<String> generateUploadPresignedUrls(List<String> fileKeys, Duration signatureDuration) {
+        PutObjectRequest putObjectTemplate = PutObjectRequest.builder()
                 .bucket(bucket)
-                .key(fileKey)
                 .build();
+        if (fileKeys.size() < PARALLEL_PRESIGN_THRESHOLD) {
+            return fileKeys.stream()
+                    .map(fileKey -> presignPutObject(putObjectTemplate, fileKey, signatureDuration))
+                    .toList();
+        }
+
+        List<CompletableFuture<String>> futures = fileKeys.stream()
+                .map(fileKey -> CompletableFuture.supplyAsync(
+                        () -> presignPutObject(putObjectTemplate, fileKey, signatureDuration), executorService))
+                .toList();
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } catch (CompletionException exception) {
+            throw new BusinessException(BusinessErrorCode.PRESIGNED_URL_GENERATION_FAILED);
+        }
+    }
+
+    private String presignPutObject(PutObjectRequest putObjectTemplate, String fileKey, Duration signatureDuration) {
         PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .putObjectRequest(putObjectRequest)
+                .putObjectRequest(putObjectTemplate.toBuilder().key(fileKey).build())
                 .signatureDuration(signatureDuration)
                 .build();
 
@@ -51,46 +125,192 @@ public class FileClient {
         }
     }
 
-    public List<String> moveTempFilesToPermanent(String domainName, long domainId, List<String> tempImageKeys) {
-        List<CompletableFuture<String>> futures = tempImageKeys.stream()
-                .map(tempImageKey -> CompletableFuture.supplyAsync(() -> {
-                    String fileName = extractFileName(tempImageKey);
-                    String newPermanentKey = domainName + "/" + domainId + "/" + fileName;
-                    try {
-                        copyObject(tempImageKey, newPermanentKey);
-                        deleteObject(tempImageKey);
-                        return newPermanentKey;
-                    } catch (Exception e) { //TODO 근본 예외 추가 필요
-                        throw new BusinessException(BusinessErrorCode.FAIL_TEMP_IMAGE_PROCESS);
-                    }
-                }, executorService))
+    public Stream<StoredFile> listFiles(String prefix) {
+        ListObjectsV2Request listReq = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .overrideConfiguration(config -> config.apiCallTimeout(API_CALL_TIMEOUT))
+                .build();
+        return s3Client.listObjectsV2Paginator(listReq)
+                .contents()
+                .stream()
+                .map(object -> new StoredFile(object.key(), object.lastModified()));
+    }
+
+    public List<FileMoveResult> moveTempFilesToPermanent(List<FileMove> fileMoves) {
+        List<CompletableFuture<List<FileMoveResult>>> futures = fileMoves.stream()
+                .collect(Collectors.groupingBy(this::getRegistrationPath, LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .stream()
+                .map(registrationMoves -> CompletableFuture.supplyAsync(
+                        () -> moveRegistrationFiles(registrationMoves), executorService))
                 .toList();
 
         return futures.stream()
-                .map(CompletableFuture::join) // TODO 일부 파일 에러에도 처리하도록 개선
+                .flatMap(future -> future.join().stream())
+                .toList();
+    }
+
+    public List<String> deleteFiles(List<String> keys) {
+        Set<String> deletedKeys = deleteObjects(keys, new AtomicInteger());
+        return keys.stream()
+                .filter(deletedKeys::contains)
+                .toList();
+    }
+
+    private String getRegistrationPath(FileMove fileMove) {
+        String permanentKey = fileMove.permanentKey();
+        int index = permanentKey.lastIndexOf('/');
+        return index == -1 ? "" : permanentKey.substring(0, index);
+    }
+
+    private List<FileMoveResult> moveRegistrationFiles(List<FileMove> fileMoves) {
+        AtomicInteger s3Calls = new AtomicInteger();
+        List<CompletableFuture<FileMoveResult>> copyFutures = fileMoves.stream()
+                .map(fileMove -> CompletableFuture.supplyAsync(() -> copyWithPermit(fileMove, s3Calls), executorService))
+                .toList();
+        List<FileMoveResult> copyResults = copyFutures.stream()
+                .map(CompletableFuture::join)
                 .toList();
+
+        List<String> copiedTempKeys = copyResults.stream()
+                .filter(result -> result.status() == FileMoveResult.Status.COPIED)
+                .map(result -> result.fileMove().tempKey())
+                .toList();
+        Set<String> deletedTempKeys = deleteObjects(copiedTempKeys, s3Calls);
+        s3CallsPerRegistration.record(s3Calls.get());
+
+        return copyResults.stream()
+                .map(result -> deletedTempKeys.contains(result.fileMove().tempKey())
+                        ? new FileMoveResult(result.fileMove(), FileMoveResult.Status.MOVED)
+                        : result)
+                .toList();
+    }
+
+    private FileMoveResult copyWithPermit(FileMove fileMove, AtomicInteger s3Calls) {
+        try {
+            movePermits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return new FileMoveResult(fileMove, FileMoveResult.Status.FAILED);
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            return new FileMoveResult(fileMove, copy(fileMove, s3Calls));
+        } finally {
+            sample.stop(moveTimer);
+            movePermits.release();
+        }
+    }
+
+    private FileMoveResult.Status copy(FileMove fileMove, AtomicInteger s3Calls) {
+        try {
+            callWithRetry(() -> copyObject(fileMove.tempKey(), fileMove.permanentKey()), s3Calls);
+            return FileMoveResult.Status.COPIED;
+        } catch (NoSuchKeyException exception) {
+            return existsObject(fileMove.permanentKey(), s3Calls) // 이전 시도에서 이미 이동된 파일
+                    ? FileMoveResult.Status.MOVED
+                    : FileMoveResult.Status.FAILED;
+        } catch (SdkException exception) {
+            log.warn("[FileCopyFailed] {} -> {}: {}",
+                    fileMove.tempKey(), fileMove.permanentKey(), exception.getMessage());
+            return FileMoveResult.Status.FAILED;
+        }
+    }
+
+    private Set<String> deleteObjects(List<String> keys, AtomicInteger s3Calls) {
+        Set<String> deletedKeys = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            List<String> batchKeys = keys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, keys.size()));
+            deletedKeys.addAll(deleteObjectsBatch(batchKeys, s3Calls));
+        }
+        return deletedKeys;
+    }
+
+    private Set<String> deleteObjectsBatch(List<String> keys, AtomicInteger s3Calls) {
+        DeleteObjectsResponse response;
+        try {
+            response = callWithRetry(() -> requestDeleteObjects(keys), s3Calls);
+        } catch (SdkException exception) {
+            log.warn("[FileDeleteFailed] {} keys: {}", keys.size(), exception.getMessage());
+            return Set.of();
+        }
+
+        Set<String> failedKeys = new HashSet<>();
+        for (S3Error error : response.errors()) {
+            log.warn("[FileDeleteFailed] {}: {} {}", error.key(), error.code(), error.message());
+            failedKeys.add(error.key());
+        }
+        return keys.stream()
+                .filter(key -> !failedKeys.contains(key))
+                .collect(Collectors.toSet());
+    }
+
+    private <T> T callWithRetry(Supplier<T> s3Call, AtomicInteger s3Calls) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                s3Calls.incrementAndGet();
+                return s3Call.get();
+            } catch (SdkException exception) {
+                if (attempt >= MAX_ATTEMPT_COUNT || !isTransient(exception)) {
+                    throw exception;
+                }
+                waitBeforeRetry(attempt, exception);
+            }
+        }
+    }
+
+    private boolean isTransient(SdkException exception) {
+        if (exception instanceof AwsServiceException serviceException) {
+            return serviceException.statusCode() >= 500 || serviceException.isThrottlingException();
+        }
+        return exception instanceof SdkClientException;
+    }
+
+    private void waitBeforeRetry(int attempt, SdkException cause) {
+        try {
+            Thread.sleep(RETRY_BACKOFF.multipliedBy(1L << (attempt - 1)));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
     }
 
-    private String extractFileName(String fullKey) {
-        int index = fullKey.lastIndexOf('/');
-        return index == -1 ? fullKey : fullKey.substring(index + 1);
+    private boolean existsObject(String key, AtomicInteger s3Calls) {
+        HeadObjectRequest headReq = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .overrideConfiguration(config -> config.apiCallTimeout(API_CALL_TIMEOUT))
+                .build();
+        try {
+            s3Calls.incrementAndGet();
+            s3Client.headObject(headReq);
+            return true;
+        } catch (SdkException exception) {
+            return false;
+        }
     }
 
-    private void copyObject(String sourceKey, String destinationKey) {
+    private CopyObjectResponse copyObject(String sourceKey, String destinationKey) {
         CopyObjectRequest copyReq = CopyObjectRequest.builder()
                 .sourceBucket(bucket)
                 .sourceKey(sourceKey)
                 .destinationBucket(bucket)
                 .destinationKey(destinationKey)
+                .overrideConfiguration(config -> config.apiCallTimeout(API_CALL_TIMEOUT))
                 .build();
-        s3Client.copyObject(copyReq);
+        return s3Client.copyObject(copyReq);
     }
 
-    private void deleteObject(String key) {
-        DeleteObjectRequest deleteReq = DeleteObjectRequest.builder()
+    private DeleteObjectsResponse requestDeleteObjects(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        DeleteObjectsRequest deleteReq = DeleteObjectsRequest.builder()
                 .bucket(bucket)
-                .key(key)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .overrideConfiguration(config -> config.apiCallTimeout(API_CALL_TIMEOUT))
                 .build();
-        s3Client.deleteObject(deleteReq);
+        return s3Client.deleteObjects(deleteReq);
     }
 }
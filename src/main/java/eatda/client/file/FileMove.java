@@ -0,0 +1,4 @@
+package eatda.client.file;
+
+public record FileMove(String tempKey, String permanentKey) {
+}
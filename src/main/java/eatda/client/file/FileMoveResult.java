@@ -0,0 +1,10 @@
+package eatda.client.file;
+
+public record FileMoveResult(FileMove fileMove, Status status) {
+
+    public enum Status {
+        MOVED,
+        COPIED,
+        FAILED,
+    }
+}
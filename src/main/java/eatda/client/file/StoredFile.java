@@ -0,0 +1,6 @@
+package eatda.client.file;
+
+import java.time.Instant;
+
+public record StoredFile(String key, Instant lastModified) {
+}
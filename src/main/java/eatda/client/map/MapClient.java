@@ -1,7 +1,16 @@
 package eatda.client.map;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import eatda.domain.store.Coordinates;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
@@ -11,18 +20,56 @@ import org.springframework.web.client.RestClient;
 @EnableConfigurationProperties(KakaoProperties.class)
 public class MapClient {
 
+    private static final int MAX_CACHED_QUERY_SIZE = 1_000;
+    private static final Duration CACHED_QUERY_TTL = Duration.ofMinutes(10);
+
     private final RestClient restClient;
     private final KakaoProperties kakaoProperties;
+    private final ExecutorService executorService;
+    private final AsyncCache<String, List<MapClientStoreSearchResult>> searchResultCache;
 
     public MapClient(RestClient.Builder restClient, KakaoProperties properties) {
         this.restClient = restClient
                 .defaultStatusHandler(HttpStatusCode::is5xxServerError, new MapServerErrorHandler())
                 .build();
         this.kakaoProperties = properties;
+        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.searchResultCache = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_QUERY_SIZE)
+                .expireAfterWrite(CACHED_QUERY_TTL)
+                .executor(executorService)
+                .buildAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.close();
     }
 
     public List<MapClientStoreSearchResult> searchStores(String query) {
-        return restClient.get()
+        // 같은 검색어의 동시 요청은 하나의 카카오 API 호출 결과를 공유한다
+        // 카카오 API 호출은 캐시 잠금 밖에서 실행하고, 정규화한 검색어는 캐시 키로만 사용한다
+        String strippedQuery = query.strip();
+        CompletableFuture<List<MapClientStoreSearchResult>> results = searchResultCache.get(
+                normalize(strippedQuery),
+                (key, executor) -> CompletableFuture.supplyAsync(() -> requestSearchStores(strippedQuery), executor));
+        try {
+            return results.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private String normalize(String query) {
+        return query.replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private List<MapClientStoreSearchResult> requestSearchStores(String query) {
+        List<MapClientStoreSearchResult> results = restClient.get()
                 .uri("https://dapi.kakao.com/v2/local/search/keyword.json", builder -> builder
                         .queryParam("query", query)
                         .queryParam("category", "FD6")
@@ -37,5 +84,6 @@ public class MapClient {
                 .retrieve()
                 .body(MapClientStoreSearchResults.class)
                 .results();
+        return List.copyOf(results);
     }
 }
@@ -0,0 +1,13 @@
+package eatda.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String STORE = "store";
+    public static final String STORE_TAGS = "store-tags";
+    public static final String STORE_IMAGES = "store-images";
+}
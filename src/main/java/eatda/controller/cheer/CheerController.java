@@ -45,8 +45,10 @@ public class CheerController {
                                                     @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size,
                                                     @RequestParam(required = false) StoreCategory category,
                                                     @RequestParam(required = false) List<CheerTagName> tag,
-                                                    @RequestParam(required = false) List<SearchDistrict> location) {
-        CheerSearchParameters searchParameters = new CheerSearchParameters(page, size, category, tag, location);
+                                                    @RequestParam(required = false) List<SearchDistrict> location,
+                                                    @RequestParam(required = false) String cursor) {
+        CheerSearchParameters searchParameters = new CheerSearchParameters(
+                page, size, category, tag, location, cursor);
         CheersResponse response = cheerService.getCheers(searchParameters);
         return ResponseEntity.ok(response);
     }
@@ -1,6 +1,7 @@
 package eatda.controller.cheer;
 
 import eatda.domain.cheer.CheerImage;
+import eatda.service.image.CdnUrlBuilder;
 
 public record CheerImageResponse(
         String imageKey,
@@ -9,13 +10,13 @@ public record CheerImageResponse(
         long fileSize,
         String url
 ) {
-    public CheerImageResponse(CheerImage cheerImage, String cdnBaseUrl) {
+    public CheerImageResponse(CheerImage cheerImage, CdnUrlBuilder cdnUrlBuilder) {
         this(
                 cheerImage.getImageKey(),
                 cheerImage.getOrderIndex(),
                 cheerImage.getContentType(),
                 cheerImage.getFileSize(),
-                "https://" + cdnBaseUrl + "/" + cheerImage.getImageKey()
+                cdnUrlBuilder.build(cheerImage.getImageKey())
         );
     }
 }
@@ -1,6 +1,5 @@
 package eatda.controller.cheer;
 
-import eatda.domain.cheer.Cheer;
 import eatda.domain.cheer.CheerTagName;
 import java.util.List;
 
@@ -11,14 +10,4 @@ public record CheerInStoreResponse(
         String description,
         List<CheerTagName> tags
 ) {
-
-    public CheerInStoreResponse(Cheer cheer) {
-        this(
-                cheer.getId(),
-                cheer.getMember().getId(),
-                cheer.getMember().getNickname(),
-                cheer.getDescription(),
-                cheer.getCheerTagNames()
-        );
-    }
 }
@@ -18,7 +18,7 @@ public record CheerPreviewResponse(
         String memberNickname
 ) {
 
-    public CheerPreviewResponse(Cheer cheer, List<CheerImageResponse> images) {
+    public CheerPreviewResponse(Cheer cheer, List<CheerImageResponse> images, List<CheerTagName> tags) {
         this(
                 cheer.getStore().getId(),
                 images,
@@ -28,7 +28,7 @@ public record CheerPreviewResponse(
                 cheer.getStore().getCategory().getCategoryName(),
                 cheer.getId(),
                 cheer.getDescription(),
-                cheer.getCheerTagNames(),
+                tags,
                 cheer.getMember().getId(),
                 cheer.getMember().getNickname()
         );
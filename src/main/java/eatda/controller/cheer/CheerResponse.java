@@ -3,6 +3,7 @@ package eatda.controller.cheer;
 import eatda.domain.cheer.Cheer;
 import eatda.domain.cheer.CheerTagName;
 import eatda.domain.store.Store;
+import eatda.service.image.CdnUrlBuilder;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,12 +16,12 @@ public record CheerResponse(
         List<CheerTagName> tags
 ) {
 
-    public CheerResponse(Cheer cheer, Store store, String cdnBaseUrl) {
+    public CheerResponse(Cheer cheer, Store store, CdnUrlBuilder cdnUrlBuilder) {
         this(
                 store.getId(),
                 cheer.getId(),
                 cheer.getImages().stream()
-                        .map(img -> new CheerImageResponse(img, cdnBaseUrl)) // ✅ CDN 붙여줌
+                        .map(img -> new CheerImageResponse(img, cdnUrlBuilder)) // ✅ CDN 붙여줌
                         .sorted(Comparator.comparingLong(CheerImageResponse::orderIndex))
                         .collect(Collectors.toList()),
                 cheer.getDescription(),
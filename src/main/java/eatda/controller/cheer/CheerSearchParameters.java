@@ -1,6 +1,7 @@
 package eatda.controller.cheer;
 
 import eatda.controller.store.SearchDistrict;
+import eatda.domain.Cursor;
 import eatda.domain.cheer.CheerTagName;
 import eatda.domain.store.District;
 import eatda.domain.store.StoreCategory;
@@ -19,17 +20,29 @@ public class CheerSearchParameters {
     private final StoreCategory category;
     private final List<CheerTagName> tag;
     private final List<SearchDistrict> location;
+    @Nullable
+    private final Cursor cursor;
 
     public CheerSearchParameters(int page,
                                  int size,
                                  @Nullable StoreCategory category,
                                  @Nullable List<CheerTagName> tag,
                                  @Nullable List<SearchDistrict> location) {
+        this(page, size, category, tag, location, null);
+    }
+
+    public CheerSearchParameters(int page,
+                                 int size,
+                                 @Nullable StoreCategory category,
+                                 @Nullable List<CheerTagName> tag,
+                                 @Nullable List<SearchDistrict> location,
+                                 @Nullable String cursor) {
         this.page = page;
         this.size = size;
         this.category = category;
         this.tag = tag != null ? tag : Collections.emptyList();
         this.location = location != null ? location : Collections.emptyList();
+        this.cursor = cursor != null ? Cursor.decode(cursor) : null;
     }
 
     @Nullable
@@ -47,4 +60,13 @@ public class CheerSearchParameters {
                 .distinct()
                 .toList();
     }
+
+    public boolean hasFilter() {
+        return category != null || !tag.isEmpty() || !location.isEmpty();
+    }
+
+    @Nullable
+    public Cursor getCursor() {
+        return cursor;
+    }
 }
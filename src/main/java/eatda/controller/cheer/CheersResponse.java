@@ -1,7 +1,8 @@
 package eatda.controller.cheer;
 
 import java.util.List;
+import org.springframework.lang.Nullable;
 
-public record CheersResponse(List<CheerPreviewResponse> cheers) {
+public record CheersResponse(List<CheerPreviewResponse> cheers, @Nullable String nextCursor) {
 
 }
@@ -37,12 +37,23 @@ public class StoreController {
                                                     @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size,
                                                     @RequestParam(required = false) StoreCategory category,
                                                     @RequestParam(required = false) List<CheerTagName> tag,
-                                                    @RequestParam(required = false) List<SearchDistrict> location) {
-        StoreSearchParameters parameters = new StoreSearchParameters(page, size, category, tag, location);
+                                                    @RequestParam(required = false) List<SearchDistrict> location,
+                                                    @RequestParam(required = false) String cursor) {
+        StoreSearchParameters parameters = new StoreSearchParameters(page, size, category, tag, location, cursor);
         StoresResponse response = storeService.getStores(parameters);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/api/shops/popular")
+    public ResponseEntity<StoresResponse> getPopularStores(
+            @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) StoreCategory category,
+            @RequestParam(required = false) List<SearchDistrict> location) {
+        StoreSearchParameters parameters = new StoreSearchParameters(0, size, category, null, location);
+        StoresResponse response = storeService.getPopularStores(parameters);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/api/shops/{storeId}/images")
     public ResponseEntity<ImagesResponse> getStoreImages(@PathVariable long storeId) {
         return ResponseEntity.ok(storeService.getStoreImages(storeId));
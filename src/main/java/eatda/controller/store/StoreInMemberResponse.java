@@ -9,13 +9,13 @@ public record StoreInMemberResponse(
         String neighborhood,
         long cheerCount
 ) {
-    public StoreInMemberResponse(Store store, int cheerCount) {
+    public StoreInMemberResponse(Store store) {
         this(
                 store.getId(),
                 store.getName(),
                 store.getAddressDistrict(),
                 store.getAddressNeighborhood(),
-                cheerCount
+                store.getCheerCount()
         );
     }
 }
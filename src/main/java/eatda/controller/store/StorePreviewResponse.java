@@ -10,10 +10,11 @@ public record StorePreviewResponse(
         String district,
         String neighborhood,
         String category,
+        long cheerCount,
         List<String> cheerDescriptions
 ) {
 
-    public StorePreviewResponse(Store store, String imageUrl) {
+    public StorePreviewResponse(Store store, String imageUrl, List<String> cheerDescriptions) {
         this(
                 store.getId(),
                 imageUrl,
@@ -21,7 +22,8 @@ public record StorePreviewResponse(
                 store.getAddressDistrict(),
                 store.getAddressNeighborhood(),
                 store.getCategory().getCategoryName(),
-                store.getCheerDescriptions()
+                store.getCheerCount(),
+                cheerDescriptions
         );
     }
 }
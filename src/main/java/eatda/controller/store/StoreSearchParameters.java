@@ -1,5 +1,6 @@
 package eatda.controller.store;
 
+import eatda.domain.Cursor;
 import eatda.domain.cheer.CheerTagName;
 import eatda.domain.store.District;
 import eatda.domain.store.SearchDistrict;
@@ -19,17 +20,29 @@ public class StoreSearchParameters {
     private final StoreCategory category;
     private final List<CheerTagName> tag;
     private final List<SearchDistrict> location;
+    @Nullable
+    private final Cursor cursor;
 
     public StoreSearchParameters(int page,
                                  int size,
                                  @Nullable StoreCategory category,
                                  @Nullable List<CheerTagName> tag,
                                  @Nullable List<SearchDistrict> location) {
+        this(page, size, category, tag, location, null);
+    }
+
+    public StoreSearchParameters(int page,
+                                 int size,
+                                 @Nullable StoreCategory category,
+                                 @Nullable List<CheerTagName> tag,
+                                 @Nullable List<SearchDistrict> location,
+                                 @Nullable String cursor) {
         this.page = page;
         this.size = size;
         this.category = category;
         this.tag = tag != null ? tag : Collections.emptyList();
         this.location = location != null ? location : Collections.emptyList();
+        this.cursor = cursor != null ? Cursor.decode(cursor) : null;
     }
 
     @Nullable
@@ -47,4 +60,13 @@ public class StoreSearchParameters {
                 .distinct()
                 .toList();
     }
+
+    public boolean hasFilter() {
+        return category != null || !tag.isEmpty() || !location.isEmpty();
+    }
+
+    @Nullable
+    public Cursor getCursor() {
+        return cursor;
+    }
 }
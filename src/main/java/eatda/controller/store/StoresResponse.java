@@ -1,6 +1,7 @@
 package eatda.controller.store;
 
 import java.util.List;
+import org.springframework.lang.Nullable;
 
-public record StoresResponse(List<StorePreviewResponse> stores) {
+public record StoresResponse(List<StorePreviewResponse> stores, @Nullable String nextCursor) {
 }
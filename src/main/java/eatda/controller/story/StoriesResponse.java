@@ -1,9 +1,11 @@
 package eatda.controller.story;
 
 import java.util.List;
+import org.springframework.lang.Nullable;
 
 public record StoriesResponse(
-        List<StoryPreview> stories
+        List<StoryPreview> stories,
+        @Nullable String nextCursor
 ) {
     public record StoryPreview(
             Long storyId,
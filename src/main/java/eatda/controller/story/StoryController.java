@@ -1,6 +1,7 @@
 package eatda.controller.story;
 
 import eatda.controller.web.auth.LoginMember;
+import eatda.domain.Cursor;
 import eatda.domain.ImageDomain;
 import eatda.domain.store.StoreSearchResult;
 import eatda.service.store.StoreSearchService;
@@ -39,9 +40,11 @@ public class StoryController {
     }
 
     @GetMapping("api/stories")
-    public ResponseEntity<StoriesResponse> getStories(@RequestParam(defaultValue = "5") @Min(1) @Max(50) int size) {
+    public ResponseEntity<StoriesResponse> getStories(@RequestParam(defaultValue = "5") @Min(1) @Max(50) int size,
+                                                      @RequestParam(required = false) String cursor) {
+        Cursor storyCursor = cursor != null ? Cursor.decode(cursor) : null;
         return ResponseEntity.status(HttpStatus.OK)
-                .body(storyService.getPagedStoryPreviews(size));
+                .body(storyService.getPagedStoryPreviews(storyCursor, size));
     }
 
     @GetMapping("/api/stories/{storyId}")
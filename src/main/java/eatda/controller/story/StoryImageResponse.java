@@ -1,6 +1,7 @@
 package eatda.controller.story;
 
 import eatda.domain.story.StoryImage;
+import eatda.service.image.CdnUrlBuilder;
 
 public record StoryImageResponse(
         String imageKey,
@@ -9,13 +10,13 @@ public record StoryImageResponse(
         long fileSize,
         String url
 ) {
-    public StoryImageResponse(StoryImage storyImage, String cdnBaseUrl) {
+    public StoryImageResponse(StoryImage storyImage, CdnUrlBuilder cdnUrlBuilder) {
         this(
                 storyImage.getImageKey(),
                 storyImage.getOrderIndex(),
                 storyImage.getContentType(),
                 storyImage.getFileSize(),
-                "https://" + cdnBaseUrl + "/" + storyImage.getImageKey()
+                cdnUrlBuilder.build(storyImage.getImageKey())
         );
     }
 }
@@ -1,6 +1,7 @@
 package eatda.controller.story;
 
 import eatda.domain.story.Story;
+import eatda.service.image.CdnUrlBuilder;
 import java.util.Comparator;
 import java.util.List;
 import org.springframework.lang.Nullable;
@@ -17,7 +18,7 @@ public record StoryResponse(
         long memberId,
         String memberNickname
 ) {
-    public StoryResponse(Story story, Long storeId, String cdnBaseUrl) {
+    public StoryResponse(Story story, Long storeId, CdnUrlBuilder cdnUrlBuilder) {
         this(
                 storeId,
                 story.getStoreKakaoId(),
@@ -27,7 +28,7 @@ public record StoryResponse(
                 story.getAddressNeighborhood(),
                 story.getDescription(),
                 story.getImages().stream()
-                        .map(img -> new StoryImageResponse(img, cdnBaseUrl))
+                        .map(img -> new StoryImageResponse(img, cdnUrlBuilder))
                         .sorted(Comparator.comparingLong(StoryImageResponse::orderIndex))
                         .toList(),
                 story.getMember().getId(),
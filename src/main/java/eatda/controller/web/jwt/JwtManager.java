@@ -1,12 +1,25 @@
 package eatda.controller.web.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import javax.crypto.SecretKey;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -14,10 +27,37 @@ import org.springframework.stereotype.Component;
 @EnableConfigurationProperties(JwtProperties.class)
 public class JwtManager {
 
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final int MAX_RESOLVED_TOKEN_SIZE = 10_000;
+    private static final String TOKEN_HASH_ALGORITHM = "SHA-256";
+
     private final JwtProperties jwtProperties;
+    private final SecretKey secretKey;
+    private final Map<TokenType, JwtParser> parsers;
+    private final Ticker ticker;
+    private final Cache<String, ResolvedToken> resolvedTokens;
 
     public JwtManager(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
+        this.secretKey = jwtProperties.getSecretKey();
+        this.parsers = createParsers(secretKey);
+        this.ticker = Ticker.systemTicker();
+        this.resolvedTokens = Caffeine.newBuilder()
+                .maximumSize(MAX_RESOLVED_TOKEN_SIZE)
+                .expireAfter(new ResolvedTokenExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    private static Map<TokenType, JwtParser> createParsers(SecretKey secretKey) {
+        Map<TokenType, JwtParser> parsers = new EnumMap<>(TokenType.class);
+        for (TokenType tokenType : TokenType.values()) {
+            parsers.put(tokenType, Jwts.parserBuilder()
+                    .setSigningKey(secretKey)
+                    .require(TOKEN_TYPE_CLAIM, tokenType.name())
+                    .build());
+        }
+        return parsers;
     }
 
     public String issueAccessToken(long id) {
@@ -35,8 +75,8 @@ public class JwtManager {
                 .setSubject(Long.toString(identifier))
                 .setIssuedAt(now)
                 .setExpiration(expired)
-                .claim("type", tokenType.name())
-                .signWith(jwtProperties.getSecretKey())
+                .claim(TOKEN_TYPE_CLAIM, tokenType.name())
+                .signWith(secretKey)
                 .compact();
     }
 
@@ -49,14 +89,39 @@ public class JwtManager {
     }
 
     private long resolveToken(String token, TokenType tokenType) {
+        if (token == null) {
+            throw new BusinessException(BusinessErrorCode.UNAUTHORIZED_MEMBER);
+        }
+        // 이미 검증한 토큰은 만료 전까지 서명 검증 없이 회원 ID를 반환한다
+        String tokenHash = hash(token);
+        ResolvedToken resolvedToken = resolvedTokens.getIfPresent(tokenHash);
+        if (resolvedToken != null) {
+            return resolvedToken.memberIdOf(tokenType);
+        }
+        resolvedToken = parseToken(token, tokenType);
+        resolvedTokens.put(tokenHash, resolvedToken);
+        return resolvedToken.memberId();
+    }
+
+    // 원본 토큰이 메모리에 남지 않도록 해시를 캐시 키로 사용한다
+    private String hash(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(jwtProperties.getSecretKey())
-                    .build()
+            byte[] digest = MessageDigest.getInstance(TOKEN_HASH_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResolvedToken parseToken(String token, TokenType tokenType) {
+        try {
+            Claims claims = parsers.get(tokenType)
                     .parseClaimsJws(token)
                     .getBody();
-            validateTokenType(claims, tokenType);
-            return Long.parseLong(claims.getSubject());
+            Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+            return new ResolvedToken(
+                    Long.parseLong(claims.getSubject()), tokenType, ticker.read() + remaining.toNanos());
         } catch (ExpiredJwtException exception) {
             throw new BusinessException(BusinessErrorCode.EXPIRED_TOKEN);
         } catch (Exception e) {
@@ -64,10 +129,34 @@ public class JwtManager {
         }
     }
 
-    private void validateTokenType(Claims claims, TokenType tokenType) {
-        String extractTokenType = claims.get("type", String.class);
-        if (!extractTokenType.equals(tokenType.name())) {
-            throw new BusinessException(BusinessErrorCode.UNAUTHORIZED_MEMBER);
+    // expirationNanos 는 캐시와 같은 Ticker 기준의 만료 시각이다
+    private record ResolvedToken(long memberId, TokenType tokenType, long expirationNanos) {
+
+        private long memberIdOf(TokenType expectedType) {
+            if (tokenType != expectedType) {
+                throw new BusinessException(BusinessErrorCode.UNAUTHORIZED_MEMBER);
+            }
+            return memberId;
+        }
+    }
+
+    private static class ResolvedTokenExpiry implements Expiry<String, ResolvedToken> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, ResolvedToken resolvedToken, long currentTime) {
+            return Math.max(resolvedToken.expirationNanos() - currentTime, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, ResolvedToken resolvedToken,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, resolvedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, ResolvedToken resolvedToken,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
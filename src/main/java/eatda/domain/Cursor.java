@@ -0,0 +1,32 @@
+package eatda.domain;
+
+import eatda.exception.BusinessErrorCode;
+import eatda.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record Cursor(LocalDateTime createdAt, long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static Cursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+            return new Cursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException exception) {
+            throw new BusinessException(BusinessErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -14,4 +14,14 @@ public enum ImageDomain {
     ;
 
     private final String name;
+
+    public String getPermanentKey(long domainId, String tempKey) {
+        int index = tempKey.lastIndexOf('/');
+        String fileName = index == -1 ? tempKey : tempKey.substring(index + 1);
+        return name + "/" + domainId + "/" + fileName;
+    }
+
+    public boolean isDomainOf(String permanentKey) {
+        return permanentKey.startsWith(name + "/");
+    }
 }
@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -25,7 +26,14 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "cheer")
+@Table(
+        name = "cheer",
+        indexes = {
+                @Index(name = "idx_cheer_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_cheer_store_id_created_at", columnList = "store_id, created_at"),
+                @Index(name = "idx_cheer_member_id_store_id", columnList = "member_id, store_id")
+        }
+)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -8,21 +8,30 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "cheer_image")
+@Table(
+        name = "cheer_image",
+        indexes = {
+                @Index(name = "idx_cheer_image_cheer_id_created_at", columnList = "cheer_id, created_at"),
+                @Index(name = "idx_cheer_image_image_key", columnList = "image_key")
+        }
+)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CheerImage extends BaseImageEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cheer_image_seq")
+    @SequenceGenerator(name = "cheer_image_seq", sequenceName = "cheer_image_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
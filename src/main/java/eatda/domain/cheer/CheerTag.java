@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -18,7 +20,8 @@ import lombok.NoArgsConstructor;
 
 @Table(
         name = "cheer_tag",
-        uniqueConstraints = @UniqueConstraint(name = "uk_cheer_tag_cheer_id_name", columnNames = {"cheer_id", "name"})
+        uniqueConstraints = @UniqueConstraint(name = "uk_cheer_tag_cheer_id_name", columnNames = {"cheer_id", "name"}),
+        indexes = @Index(name = "idx_cheer_tag_name_cheer_id", columnList = "name, cheer_id")
 )
 @Entity
 @Getter
@@ -26,7 +29,8 @@ import lombok.NoArgsConstructor;
 public class CheerTag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cheer_tag_seq")
+    @SequenceGenerator(name = "cheer_tag_seq", sequenceName = "cheer_tag_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
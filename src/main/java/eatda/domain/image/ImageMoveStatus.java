@@ -0,0 +1,7 @@
+package eatda.domain.image;
+
+public enum ImageMoveStatus {
+    PENDING,
+    COPIED,
+    FAILED,
+}
@@ -0,0 +1,88 @@
+package eatda.domain.image;
+
+import eatda.domain.AuditingEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Table(
+        name = "image_move_task",
+        indexes = @Index(name = "idx_image_move_task_status_next_attempt_at", columnList = "status, next_attempt_at")
+)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageMoveTask extends AuditingEntity {
+
+    private static final int MAX_ATTEMPT_COUNT = 5;
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(10);
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_move_task_seq")
+    @SequenceGenerator(name = "image_move_task_seq", sequenceName = "image_move_task_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "temp_key", nullable = false, unique = true, length = 511)
+    private String tempKey;
+
+    @Column(name = "permanent_key", nullable = false, length = 511)
+    private String permanentKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImageMoveStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public ImageMoveTask(String tempKey, String permanentKey) {
+        this.tempKey = tempKey;
+        this.permanentKey = permanentKey;
+        this.status = ImageMoveStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public boolean isCopied() {
+        return status == ImageMoveStatus.COPIED;
+    }
+
+    public boolean isFailed() {
+        return status == ImageMoveStatus.FAILED;
+    }
+
+    // 가져간 인스턴스가 처리하지 못하고 죽어도 임대 시간이 지나면 다시 처리된다
+    public void lease(LocalDateTime now) {
+        nextAttemptAt = now.plus(LEASE_DURATION);
+    }
+
+    public void markCopied(LocalDateTime now) {
+        status = ImageMoveStatus.COPIED;
+        nextAttemptAt = now;
+    }
+
+    public void retryLater(LocalDateTime now) {
+        attemptCount++;
+        if (attemptCount >= MAX_ATTEMPT_COUNT) {
+            status = ImageMoveStatus.FAILED;
+            return;
+        }
+        nextAttemptAt = now.plus(BASE_RETRY_DELAY.multipliedBy(1L << (attemptCount - 1)));
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
@@ -19,7 +20,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "store")
+@Table(
+        name = "store",
+        indexes = {
+                @Index(name = "idx_store_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_store_district_category_created_at", columnList = "district, category, created_at")
+        }
+)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -57,6 +64,9 @@ public class Store extends AuditingEntity {
     @Embedded
     private Coordinates coordinates;
 
+    @Column(name = "cheer_count", nullable = false)
+    private long cheerCount;
+
     @OneToMany(mappedBy = "store")
     private List<Cheer> cheers = new ArrayList<>();
 
@@ -93,10 +103,4 @@ public class Store extends AuditingEntity {
         }
         return addressParts[2];
     }
-
-    public List<String> getCheerDescriptions() {
-        return cheers.stream()
-                .map(Cheer::getDescription)
-                .toList();
-    }
 }
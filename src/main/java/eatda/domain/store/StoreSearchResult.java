@@ -1,5 +1,7 @@
 package eatda.domain.store;
 
+import org.springframework.lang.Nullable;
+
 public record StoreSearchResult(
         String kakaoId,
         StoreCategory category,
@@ -10,9 +12,44 @@ public record StoreSearchResult(
         String roadAddress,
         District district,
         double latitude,
-        double longitude
+        double longitude,
+        @Nullable Long storeId
 ) {
 
+    public StoreSearchResult(String kakaoId,
+                             StoreCategory category,
+                             String phoneNumber,
+                             String name,
+                             String placeUrl,
+                             String lotNumberAddress,
+                             String roadAddress,
+                             District district,
+                             double latitude,
+                             double longitude) {
+        this(kakaoId, category, phoneNumber, name, placeUrl, lotNumberAddress, roadAddress, district,
+                latitude, longitude, null);
+    }
+
+    public static StoreSearchResult from(Store store) {
+        return new StoreSearchResult(
+                store.getKakaoId(),
+                store.getCategory(),
+                store.getPhoneNumber(),
+                store.getName(),
+                store.getPlaceUrl(),
+                store.getLotNumberAddress(),
+                store.getRoadAddress(),
+                store.getDistrict(),
+                store.getCoordinates().getLatitude(),
+                store.getCoordinates().getLongitude(),
+                store.getId()
+        );
+    }
+
+    public boolean isSaved() {
+        return storeId != null;
+    }
+
     public Store toStore() {
         return Store.builder()
                 .kakaoId(kakaoId)
@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -25,7 +26,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "story")
+@Table(
+        name = "story",
+        indexes = {
+                @Index(name = "idx_story_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_story_store_kakao_id_created_at", columnList = "store_kakao_id, created_at"),
+                @Index(name = "idx_story_member_id_created_at", columnList = "member_id, created_at")
+        }
+)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,6 +50,9 @@ public class Story extends AuditingEntity {
     @Column(name = "store_kakao_id", nullable = false)
     private String storeKakaoId;
 
+    @Column(name = "store_id")
+    private Long storeId;
+
     @Column(name = "store_name", nullable = false)
     private String storeName;
 
@@ -65,6 +76,7 @@ public class Story extends AuditingEntity {
     private Story(
             Member member,
             String storeKakaoId,
+            Long storeId,
             StoreCategory storeCategory,
             String storeName,
             String storeRoadAddress,
@@ -77,6 +89,7 @@ public class Story extends AuditingEntity {
 
         this.member = member;
         this.storeKakaoId = storeKakaoId;
+        this.storeId = storeId;
         this.storeCategory = storeCategory;
         this.storeName = storeName;
         this.storeRoadAddress = storeRoadAddress;
@@ -64,6 +64,9 @@ public enum BusinessErrorCode {
     INVALID_STORE_KAKAO_ID("STY007", "스토어 Kakao ID는 필수입니다."),
     INVALID_STORE_NAME("STY008", "스토어 이름은 필수입니다."),
     INVALID_STORE_ADDRESS("STY009", "스토어 주소는 필수입니다."),
+
+    // Pagination
+    INVALID_CURSOR("PAG001", "유효하지 않은 커서입니다."),
     ;
 
     private final String code;
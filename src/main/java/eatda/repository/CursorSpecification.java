@@ -0,0 +1,25 @@
+package eatda.repository;
+
+import eatda.domain.Cursor;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class CursorSpecification {
+
+    public static final Sort CURSOR_SORT = Sort.by(Direction.DESC, "createdAt", "id");
+
+    private CursorSpecification() {
+    }
+
+    public static <T> Specification<T> before(Cursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.<Long>get("id"), cursor.id())
+                )
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package eatda.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class ImageKeyUpdateQuery {
+
+    private ImageKeyUpdateQuery() {
+    }
+
+    // 키 개수와 관계없이 UPDATE ... CASE 한 문장으로 임시 키를 영구 키로 바꾼다
+    public static int execute(EntityManager entityManager,
+                              String entityName,
+                              Map<String, String> permanentKeysByTempKey) {
+        if (permanentKeysByTempKey.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<String, String>> entries = new ArrayList<>(permanentKeysByTempKey.entrySet());
+        StringBuilder jpql = new StringBuilder("UPDATE ")
+                .append(entityName)
+                .append(" i SET i.imageKey = CASE i.imageKey");
+        for (int i = 0; i < entries.size(); i++) {
+            jpql.append(" WHEN :tempKey").append(i).append(" THEN :permanentKey").append(i);
+        }
+        jpql.append(" ELSE i.imageKey END WHERE i.imageKey IN :tempKeys");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        for (int i = 0; i < entries.size(); i++) {
+            query.setParameter("tempKey" + i, entries.get(i).getKey());
+            query.setParameter("permanentKey" + i, entries.get(i).getValue());
+        }
+        return query.setParameter("tempKeys", permanentKeysByTempKey.keySet())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,7 @@
+package eatda.repository.cheer;
+
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+
+public record CheerFilterKey(long cheerId, StoreCategory storeCategory, District storeDistrict) {
+}
@@ -0,0 +1,8 @@
+package eatda.repository.cheer;
+
+import java.util.Map;
+
+public interface CheerImageQueryRepository {
+
+    int updateImageKeys(Map<String, String> permanentKeysByTempKey);
+}
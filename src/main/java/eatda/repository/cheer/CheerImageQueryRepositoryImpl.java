@@ -0,0 +1,17 @@
+package eatda.repository.cheer;
+
+import eatda.repository.ImageKeyUpdateQuery;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CheerImageQueryRepositoryImpl implements CheerImageQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updateImageKeys(Map<String, String> permanentKeysByTempKey) {
+        return ImageKeyUpdateQuery.execute(entityManager, "CheerImage", permanentKeysByTempKey);
+    }
+}
@@ -2,13 +2,37 @@ package eatda.repository.cheer;
 
 import eatda.domain.cheer.CheerImage;
 import eatda.domain.store.Store;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface CheerImageRepository extends JpaRepository<CheerImage, Long> {
+public interface CheerImageRepository extends JpaRepository<CheerImage, Long>, CheerImageQueryRepository {
 
     List<CheerImage> findAllByCheer_StoreOrderByOrderIndexAsc(Store store);
 
-    Optional<CheerImage> findFirstByCheer_Store_IdOrderByCreatedAtDesc(Long storeId);
+    List<CheerImage> findAllByCheer_IdInOrderByOrderIndexAsc(List<Long> cheerIds);
+
+    @Query("""
+            SELECT DISTINCT c.store.id
+                FROM CheerImage ci
+                JOIN ci.cheer c
+                WHERE ci.imageKey IN :imageKeys
+            """)
+    List<Long> findStoreIdsByImageKeyIn(Collection<String> imageKeys);
+
+    // 음식점마다 가장 최근 이미지 한 장만 남기도록 순위를 매긴다
+    @Query("""
+            SELECT new eatda.repository.cheer.StoreImageKey(ranked.storeId, ranked.imageKey)
+                FROM (
+                    SELECT c.store.id AS storeId,
+                           ci.imageKey AS imageKey,
+                           ROW_NUMBER() OVER (PARTITION BY c.store.id ORDER BY ci.createdAt DESC, ci.id DESC) AS rowNumber
+                        FROM CheerImage ci
+                        JOIN ci.cheer c
+                        WHERE c.store.id IN :storeIds
+                ) ranked
+                WHERE ranked.rowNumber = 1
+            """)
+    List<StoreImageKey> findLatestImageKeysByStoreIds(List<Long> storeIds);
 }
@@ -0,0 +1,4 @@
+package eatda.repository.cheer;
+
+public record CheerInStore(long cheerId, long memberId, String memberNickname, String description) {
+}
@@ -0,0 +1,11 @@
+package eatda.repository.cheer;
+
+import eatda.domain.cheer.Cheer;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CheerQueryRepository {
+
+    List<Long> findIds(Specification<Cheer> spec, Pageable pageable);
+}
@@ -1,30 +1,55 @@
 package eatda.repository.cheer;
 
+import eatda.domain.Cursor;
 import eatda.domain.cheer.Cheer;
+import eatda.domain.cheer.CheerTag;
 import eatda.domain.cheer.CheerTagName;
 import eatda.domain.member.Member;
 import eatda.domain.store.District;
-import eatda.domain.store.Store;
 import eatda.domain.store.StoreCategory;
-import jakarta.persistence.criteria.JoinType;
+import eatda.repository.CursorSpecification;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.Nullable;
 
-public interface CheerRepository extends JpaRepository<Cheer, Long> {
+public interface CheerRepository extends JpaRepository<Cheer, Long>, CheerQueryRepository {
 
-    @EntityGraph(attributePaths = {"member", "cheerTags.values"})
-    List<Cheer> findAllByStoreOrderByCreatedAtDesc(Store store, PageRequest pageRequest);
+    @Query("""
+            SELECT new eatda.repository.cheer.CheerInStore(c.id, m.id, m.nickname, c.description)
+                FROM Cheer c
+                JOIN c.member m
+                WHERE c.store.id = :storeId
+                ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<CheerInStore> findAllInStoreByStoreId(long storeId, Pageable pageable);
 
     default List<Cheer> findAllByConditions(@Nullable StoreCategory category,
                                             List<CheerTagName> cheerTagNames,
                                             List<District> districts, Pageable pageable) {
         Specification<Cheer> spec = createSpecification(category, cheerTagNames, districts);
-        return findAll(spec, pageable);
+        return findAllWithStoreAndMemberByIds(findIds(spec, pageable));
+    }
+
+    default List<Cheer> findAllByConditions(@Nullable StoreCategory category,
+                                            List<CheerTagName> cheerTagNames,
+                                            List<District> districts,
+                                            Cursor cursor,
+                                            int size) {
+        Specification<Cheer> spec = createSpecification(category, cheerTagNames, districts)
+                .and(CursorSpecification.before(cursor));
+        return findAllWithStoreAndMemberByIds(findIds(spec, PageRequest.of(0, size, CursorSpecification.CURSOR_SORT)));
     }
 
     private Specification<Cheer> createSpecification(@Nullable StoreCategory category,
@@ -35,11 +60,16 @@ public interface CheerRepository extends JpaRepository<Cheer, Long> {
             spec = spec.and((root, query, cb) -> cb.equal(root.get("store").get("category"), category));
         }
         if (!cheerTagNames.isEmpty()) {
-            spec = spec.and(((root, query, cb) -> {
-                query.distinct(true);
-                return root.join("cheerTags").join("values", JoinType.LEFT)
-                        .get("name").in(cheerTagNames);
-            }));
+            spec = spec.and((root, query, cb) -> {
+                Subquery<Long> subquery = query.subquery(Long.class);
+                Root<CheerTag> cheerTag = subquery.from(CheerTag.class);
+                subquery.select(cheerTag.get("id"))
+                        .where(
+                                cb.equal(cheerTag.get("cheer"), root),
+                                cheerTag.get("name").in(cheerTagNames)
+                        );
+                return cb.exists(subquery);
+            });
         }
         if (!districts.isEmpty()) {
             spec = spec.and((root, query, cb) -> root.get("store").get("district").in(districts));
@@ -47,12 +77,62 @@ public interface CheerRepository extends JpaRepository<Cheer, Long> {
         return spec;
     }
 
-    @EntityGraph(attributePaths = {"store", "member", "cheerTags.values"})
-    List<Cheer> findAll(Specification<Cheer> specification, Pageable pageable);
+    @Query("""
+            SELECT c FROM Cheer c
+                JOIN FETCH c.store
+                JOIN FETCH c.member
+                WHERE c.id IN :cheerIds
+            """)
+    List<Cheer> findAllWithStoreAndMemberByIdIn(List<Long> cheerIds);
 
-    int countByMember(Member member);
+    default List<Cheer> findAllWithStoreAndMemberByIds(List<Long> cheerIds) {
+        if (cheerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Cheer> cheers = findAllWithStoreAndMemberByIdIn(cheerIds).stream()
+                .collect(Collectors.toMap(Cheer::getId, Function.identity()));
+        return cheerIds.stream()
+                .map(cheers::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-    int countByStore(Store store);
+    @Query("""
+            SELECT new eatda.repository.cheer.StoreCheerDescription(c.store.id, c.description)
+                FROM Cheer c
+                WHERE c.store.id IN :storeIds
+                ORDER BY c.id ASC
+            """)
+    List<StoreCheerDescription> findAllDescriptionsByStoreIdIn(List<Long> storeIds);
+
+    default Map<Long, List<String>> findAllDescriptionsByStoreIds(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return findAllDescriptionsByStoreIdIn(storeIds).stream()
+                .collect(Collectors.groupingBy(
+                        StoreCheerDescription::storeId,
+                        Collectors.mapping(StoreCheerDescription::description, Collectors.toList())
+                ));
+    }
+
+    @Query("""
+            SELECT new eatda.repository.cheer.StoreCheer(c.id, s.id, s.category, s.district, c.createdAt)
+                FROM Cheer c
+                JOIN c.store s
+                WHERE c.createdAt >= :since
+            """)
+    List<StoreCheer> findAllStoreCheersSince(LocalDateTime since);
+
+    @Query("""
+            SELECT new eatda.repository.cheer.CheerFilterKey(c.id, s.category, s.district)
+                FROM Cheer c
+                JOIN c.store s
+                WHERE c.id > :cheerId
+            """)
+    List<CheerFilterKey> findAllFilterKeysAfter(long cheerId);
+
+    int countByMember(Member member);
 
     boolean existsByMemberAndStoreKakaoId(Member member, String storeKakaoId);
 }
@@ -0,0 +1,6 @@
+package eatda.repository.cheer;
+
+import eatda.domain.cheer.CheerTagName;
+
+public record CheerTagKey(long cheerId, long storeId, CheerTagName name) {
+}
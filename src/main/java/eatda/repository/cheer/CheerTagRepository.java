@@ -1,11 +1,37 @@
 package eatda.repository.cheer;
 
 import eatda.domain.cheer.CheerTag;
-import eatda.domain.store.Store;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CheerTagRepository extends JpaRepository<CheerTag, Long> {
 
-    List<CheerTag> findAllByCheerStore(Store storeId);
+    @Query("""
+            SELECT new eatda.repository.cheer.CheerTagCount(ct.name, COUNT(ct))
+                FROM CheerTag ct
+                JOIN ct.cheer c
+                WHERE c.store.id = :storeId
+                GROUP BY ct.name
+                ORDER BY COUNT(ct) DESC, ct.name ASC
+            """)
+    List<CheerTagCount> countAllByStoreId(long storeId);
+
+    @Query("""
+            SELECT new eatda.repository.cheer.CheerTagKey(c.id, c.store.id, ct.name)
+                FROM CheerTag ct
+                JOIN ct.cheer c
+                WHERE c.id > :cheerId
+            """)
+    List<CheerTagKey> findAllTagKeysByCheerIdAfter(long cheerId);
+
+    @Query("""
+            SELECT new eatda.repository.cheer.CheerTagKey(c.id, c.store.id, ct.name)
+                FROM CheerTag ct
+                JOIN ct.cheer c
+                WHERE c.id IN :cheerIds
+                ORDER BY ct.id ASC
+            """)
+    List<CheerTagKey> findAllTagKeysByCheerIdIn(Collection<Long> cheerIds);
 }
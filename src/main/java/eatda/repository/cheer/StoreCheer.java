@@ -0,0 +1,12 @@
+package eatda.repository.cheer;
+
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+import java.time.LocalDateTime;
+
+public record StoreCheer(long cheerId,
+                         long storeId,
+                         StoreCategory storeCategory,
+                         District storeDistrict,
+                         LocalDateTime cheeredAt) {
+}
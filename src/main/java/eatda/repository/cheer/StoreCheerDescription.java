@@ -0,0 +1,4 @@
+package eatda.repository.cheer;
+
+public record StoreCheerDescription(long storeId, String description) {
+}
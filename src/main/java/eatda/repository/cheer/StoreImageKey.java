@@ -0,0 +1,4 @@
+package eatda.repository.cheer;
+
+public record StoreImageKey(long storeId, String imageKey) {
+}
@@ -0,0 +1,32 @@
+package eatda.repository.image;
+
+import eatda.domain.image.ImageMoveStatus;
+import eatda.domain.image.ImageMoveTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface ImageMoveTaskRepository extends JpaRepository<ImageMoveTask, Long> {
+
+    default List<ImageMoveTask> findDueTasks(LocalDateTime now, int size) {
+        return findAllByStatusInAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                List.of(ImageMoveStatus.PENDING, ImageMoveStatus.COPIED), now, PageRequest.of(0, size));
+    }
+
+    // 다른 인스턴스가 잠근 작업은 기다리지 않고 건너뛴다 (-2 는 SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<ImageMoveTask> findAllByStatusInAndNextAttemptAtLessThanEqualOrderByIdAsc(List<ImageMoveStatus> statuses,
+                                                                                    LocalDateTime now,
+                                                                                    Pageable pageable);
+
+    @Query("SELECT t.tempKey FROM ImageMoveTask t WHERE t.tempKey IN :tempKeys")
+    List<String> findTempKeysByTempKeyIn(List<String> tempKeys);
+}
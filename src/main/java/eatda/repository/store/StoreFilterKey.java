@@ -0,0 +1,7 @@
+package eatda.repository.store;
+
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+
+public record StoreFilterKey(long storeId, StoreCategory category, District district) {
+}
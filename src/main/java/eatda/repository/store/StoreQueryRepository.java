@@ -0,0 +1,11 @@
+package eatda.repository.store;
+
+import eatda.domain.store.Store;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface StoreQueryRepository {
+
+    List<Long> findIds(Specification<Store> spec, Pageable pageable);
+}
@@ -1,21 +1,32 @@
 package eatda.repository.store;
 
+import eatda.domain.Cursor;
+import eatda.domain.cheer.CheerTag;
 import eatda.domain.cheer.CheerTagName;
 import eatda.domain.store.District;
 import eatda.domain.store.Store;
 import eatda.domain.store.StoreCategory;
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
+import eatda.repository.CursorSpecification;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.Nullable;
 
-public interface StoreRepository extends JpaRepository<Store, Long> {
+public interface StoreRepository extends JpaRepository<Store, Long>, StoreQueryRepository {
 
     @Override
     default Store getById(Long id) {
@@ -33,16 +44,48 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
             """)
     List<Store> findAllByCheeredMemberId(long memberId);
 
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Store s SET s.cheerCount = s.cheerCount + 1 WHERE s.id = :storeId")
+    void increaseCheerCount(long storeId);
+
     default List<Store> findAllByConditions(@Nullable StoreCategory category,
                                             List<CheerTagName> cheerTagNames,
                                             List<District> districts,
                                             Pageable pageable) {
         Specification<Store> spec = createSpecification(category, cheerTagNames, districts);
-        return findAll(spec, pageable);
+        return findAllByIds(findIds(spec, pageable));
+    }
+
+    default List<Store> findAllByConditions(@Nullable StoreCategory category,
+                                            List<CheerTagName> cheerTagNames,
+                                            List<District> districts,
+                                            Cursor cursor,
+                                            int size) {
+        Specification<Store> spec = createSpecification(category, cheerTagNames, districts)
+                .and(CursorSpecification.before(cursor));
+        return findAllByIds(findIds(spec, PageRequest.of(0, size, CursorSpecification.CURSOR_SORT)));
     }
 
-    @EntityGraph(attributePaths = {"cheers"})
-    List<Store> findAll(Specification<Store> spec, Pageable pageable);
+    @Query("""
+            SELECT new eatda.repository.store.StoreFilterKey(s.id, s.category, s.district)
+                FROM Store s
+                WHERE s.id > :storeId
+            """)
+    List<StoreFilterKey> findAllFilterKeysAfter(long storeId);
+
+    List<Store> findAllByIdIn(List<Long> storeIds);
+
+    default List<Store> findAllByIds(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Store> stores = findAllByIdIn(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        return storeIds.stream()
+                .map(stores::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
     private Specification<Store> createSpecification(@Nullable StoreCategory category,
                                                      List<CheerTagName> cheerTagNames,
@@ -52,8 +95,16 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
             spec = spec.and((root, query, cb) -> cb.equal(root.get("category"), category));
         }
         if (!cheerTagNames.isEmpty()) {
-            spec = spec.and(((root, query, cb) ->
-                    root.join("cheers").join("cheerTags").join("values").get("name").in(cheerTagNames)));
+            spec = spec.and((root, query, cb) -> {
+                Subquery<Long> subquery = query.subquery(Long.class);
+                Root<CheerTag> cheerTag = subquery.from(CheerTag.class);
+                subquery.select(cheerTag.get("id"))
+                        .where(
+                                cb.equal(cheerTag.get("cheer").get("store"), root),
+                                cheerTag.get("name").in(cheerTagNames)
+                        );
+                return cb.exists(subquery);
+            });
         }
         if (!districts.isEmpty()) {
             spec = spec.and((root, query, cb) -> root.get("district").in(districts));
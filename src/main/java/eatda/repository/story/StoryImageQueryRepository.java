@@ -0,0 +1,8 @@
+package eatda.repository.story;
+
+import java.util.Map;
+
+public interface StoryImageQueryRepository {
+
+    int updateImageKeys(Map<String, String> permanentKeysByTempKey);
+}
@@ -0,0 +1,17 @@
+package eatda.repository.story;
+
+import eatda.repository.ImageKeyUpdateQuery;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class StoryImageQueryRepositoryImpl implements StoryImageQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updateImageKeys(Map<String, String> permanentKeysByTempKey) {
+        return ImageKeyUpdateQuery.execute(entityManager, "StoryImage", permanentKeysByTempKey);
+    }
+}
@@ -5,9 +5,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface StoryImageRepository extends JpaRepository<StoryImage, Long> {
+public interface StoryImageRepository extends JpaRepository<StoryImage, Long>, StoryImageQueryRepository {
 
-    List<StoryImage> findAllByStory_IdOrderByOrderIndexAsc(Long storyId);
+    List<StoryImage> findAllByStory_IdInOrderByOrderIndexAsc(List<Long> storyIds);
 
     Optional<StoryImage> findFirstByStory_IdOrderByCreatedAtDesc(Long storyId);
 }
@@ -1,17 +1,32 @@
 package eatda.repository.story;
 
 import eatda.domain.story.Story;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface StoryRepository extends JpaRepository<Story, Long> {
-    @EntityGraph(attributePaths = "images")
-    Page<Story> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    List<Story> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @Query("""
+            SELECT s FROM Story s
+                WHERE s.createdAt < :createdAt
+                   OR (s.createdAt = :createdAt AND s.id < :id)
+                ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<Story> findAllByCursor(LocalDateTime createdAt, long id, Pageable pageable);
 
     Page<Story> findAllByMemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"member", "images"})
+    @EntityGraph(attributePaths = "member")
     Page<Story> findAllByStoreKakaoIdOrderByCreatedAtDesc(String storeKakaoId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Story s SET s.storeId = :storeId WHERE s.storeKakaoId = :storeKakaoId AND s.storeId IS NULL")
+    void updateStoreIdByStoreKakaoId(String storeKakaoId, long storeId);
 }
@@ -0,0 +1,15 @@
+package eatda.service.cheer;
+
+import eatda.domain.cheer.CheerTagName;
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CheerRegisteredEvent(long cheerId,
+                                   long storeId,
+                                   StoreCategory storeCategory,
+                                   District storeDistrict,
+                                   LocalDateTime cheeredAt,
+                                   List<CheerTagName> tagNames) {
+}
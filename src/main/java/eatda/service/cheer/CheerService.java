@@ -1,6 +1,5 @@
 package eatda.service.cheer;
 
-import eatda.client.file.FileClient;
 import eatda.controller.cheer.CheerImageResponse;
 import eatda.controller.cheer.CheerInStoreResponse;
 import eatda.controller.cheer.CheerPreviewResponse;
@@ -9,25 +8,38 @@ import eatda.controller.cheer.CheerResponse;
 import eatda.controller.cheer.CheerSearchParameters;
 import eatda.controller.cheer.CheersInStoreResponse;
 import eatda.controller.cheer.CheersResponse;
+import eatda.domain.Cursor;
 import eatda.domain.ImageDomain;
 import eatda.domain.cheer.Cheer;
 import eatda.domain.cheer.CheerImage;
+import eatda.domain.cheer.CheerTagName;
 import eatda.domain.member.Member;
 import eatda.domain.store.Store;
 import eatda.domain.store.StoreSearchResult;
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
+import eatda.repository.CursorSpecification;
+import eatda.repository.cheer.CheerImageRepository;
+import eatda.repository.cheer.CheerInStore;
 import eatda.repository.cheer.CheerRepository;
+import eatda.repository.cheer.CheerTagKey;
+import eatda.repository.cheer.CheerTagRepository;
 import eatda.repository.member.MemberRepository;
 import eatda.repository.store.StoreRepository;
+import eatda.repository.story.StoryRepository;
+import eatda.service.image.CdnUrlBuilder;
+import eatda.service.image.ImageMoveService;
+import eatda.service.store.StoreFilterIndex;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,10 +52,13 @@ public class CheerService {
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
     private final CheerRepository cheerRepository;
-    private final FileClient fileClient;
-
-    @Value("${cdn.base-url}")
-    private String cdnBaseUrl;
+    private final CheerTagRepository cheerTagRepository;
+    private final CheerImageRepository cheerImageRepository;
+    private final StoryRepository storyRepository;
+    private final ImageMoveService imageMoveService;
+    private final CdnUrlBuilder cdnUrlBuilder;
+    private final StoreFilterIndex storeFilterIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CheerResponse registerCheer(CheerRegisterRequest request,
@@ -54,19 +69,36 @@ public class CheerService {
         Member member = memberRepository.getById(memberId);
         validateRegisterCheer(member, request.storeKakaoId());
 
-        Store store = storeRepository.findByKakaoId(result.kakaoId())
-                .orElseGet(() -> storeRepository.save(result.toStore())); // TODO 상점 조회/저장 동시성 이슈 해결
+        Store store = resolveStore(result);
         Cheer cheer = new Cheer(member, store, request.description());
         cheer.setCheerTags(request.tags());
         Cheer savedCheer = cheerRepository.save(cheer);
 
-        // TODO 트랜잭션 범위 축소
         List<CheerRegisterRequest.UploadedImageDetail> sortedImages = sortImages(request.images());
-        List<String> permanentKeys = moveImages(domain, cheer.getId(), sortedImages);
+        reserveImageMoves(domain, cheer.getId(), sortedImages);
 
-        saveCheerImages(cheer, sortedImages, permanentKeys);
+        saveCheerImages(cheer, sortedImages);
+        // 영속성 컨텍스트를 비우므로 응원과 이미지를 모두 저장한 뒤에 실행한다
+        storeRepository.increaseCheerCount(store.getId());
+        eventPublisher.publishEvent(new CheerRegisteredEvent(savedCheer.getId(), store.getId(),
+                result.category(), result.district(), savedCheer.getCreatedAt(), request.tags()));
 
-        return new CheerResponse(savedCheer, store, cdnBaseUrl);
+        return new CheerResponse(savedCheer, store, cdnUrlBuilder);
+    }
+
+    // 검색 단계에서 저장된 음식점을 찾았다면 다시 조회하지 않고 참조만 사용한다
+    private Store resolveStore(StoreSearchResult result) {
+        if (result.isSaved()) {
+            return storeRepository.getReferenceById(result.storeId());
+        }
+        return storeRepository.findByKakaoId(result.kakaoId())
+                .orElseGet(() -> createStore(result)); // TODO 상점 조회/저장 동시성 이슈 해결
+    }
+
+    private Store createStore(StoreSearchResult result) {
+        Store store = storeRepository.save(result.toStore());
+        storyRepository.updateStoreIdByStoreKakaoId(store.getKakaoId(), store.getId());
+        return store;
     }
 
     private void validateRegisterCheer(Member member, String storeKakaoId) {
@@ -85,24 +117,23 @@ public class CheerService {
                 .toList();
     }
 
-    private List<String> moveImages(ImageDomain domain,
-                                    long cheerId,
-                                    List<CheerRegisterRequest.UploadedImageDetail> sortedImages) {
+    private void reserveImageMoves(ImageDomain domain,
+                                   long cheerId,
+                                   List<CheerRegisterRequest.UploadedImageDetail> sortedImages) {
         List<String> tempKeys = sortedImages.stream()
                 .map(CheerRegisterRequest.UploadedImageDetail::imageKey)
                 .toList();
-        return fileClient.moveTempFilesToPermanent(domain.getName(), cheerId, tempKeys);
+        imageMoveService.reserveMoves(domain, cheerId, tempKeys);
     }
 
     private void saveCheerImages(Cheer cheer,
-                                 List<CheerRegisterRequest.UploadedImageDetail> sortedImages,
-                                 List<String> permanentKeys) {
+                                 List<CheerRegisterRequest.UploadedImageDetail> sortedImages) {
         IntStream.range(0, sortedImages.size())
                 .forEach(i -> {
                     var detail = sortedImages.get(i);
                     CheerImage cheerImage = new CheerImage(
                             cheer,
-                            permanentKeys.get(i),
+                            detail.imageKey(),
                             detail.orderIndex(),
                             detail.contentType(),
                             detail.fileSize()
@@ -115,36 +146,117 @@ public class CheerService {
 
     @Transactional(readOnly = true)
     public CheersResponse getCheers(CheerSearchParameters parameters) {
-        List<Cheer> cheers = cheerRepository.findAllByConditions(
+        if (parameters.hasFilter()) {
+            return getFilteredCheers(parameters);
+        }
+        List<Cheer> cheers = findCheers(parameters);
+        return toCheersResponse(cheers, getNextCursor(cheers, parameters.getSize()));
+    }
+
+    private List<Cheer> findCheers(CheerSearchParameters parameters) {
+        if (parameters.getCursor() == null) {
+            return cheerRepository.findAllByConditions(
+                    parameters.getCategory(),
+                    parameters.getCheerTagNames(),
+                    parameters.getDistricts(),
+                    PageRequest.of(parameters.getPage(), parameters.getSize(), CursorSpecification.CURSOR_SORT)
+            );
+        }
+        return cheerRepository.findAllByConditions(
                 parameters.getCategory(),
                 parameters.getCheerTagNames(),
                 parameters.getDistricts(),
-                PageRequest.of(parameters.getPage(), parameters.getSize(), Sort.by(Direction.DESC, "createdAt"))
+                parameters.getCursor(),
+                parameters.getSize()
         );
-        return toCheersResponse(cheers);
     }
 
-    private CheersResponse toCheersResponse(List<Cheer> cheers) {
+    // 비트맵에서 size + 1 개의 ID만 꺼내 다음 페이지 여부를 판단하고, SQL 에는 size 개의 ID만 보낸다
+    private CheersResponse getFilteredCheers(CheerSearchParameters parameters) {
+        int size = parameters.getSize();
+        Cursor cursor = parameters.getCursor();
+        List<Long> cheerIds = storeFilterIndex.findCheerIds(
+                parameters.getCategory(),
+                parameters.getCheerTagNames(),
+                parameters.getDistricts(),
+                cursor == null ? null : cursor.id(),
+                cursor == null ? (long) parameters.getPage() * size : 0,
+                size + 1
+        );
+        List<Cheer> cheers = cheerRepository.findAllWithStoreAndMemberByIds(
+                cheerIds.subList(0, Math.min(size, cheerIds.size())));
+
+        if (cheerIds.size() <= size || cheers.isEmpty()) {
+            return toCheersResponse(cheers, null);
+        }
+        Cheer lastCheer = cheers.getLast();
+        return toCheersResponse(cheers, new Cursor(lastCheer.getCreatedAt(), lastCheer.getId()).encode());
+    }
+
+    @Nullable
+    private String getNextCursor(List<Cheer> cheers, int size) {
+        if (cheers.size() < size) {
+            return null;
+        }
+        Cheer lastCheer = cheers.getLast();
+        return new Cursor(lastCheer.getCreatedAt(), lastCheer.getId()).encode();
+    }
+
+    private CheersResponse toCheersResponse(List<Cheer> cheers, @Nullable String nextCursor) {
+        if (cheers.isEmpty()) {
+            return new CheersResponse(Collections.emptyList(), nextCursor);
+        }
+        List<Long> cheerIds = cheers.stream()
+                .map(Cheer::getId)
+                .toList();
+        Map<Long, List<CheerTagName>> tags = getCheerTagNames(cheerIds);
+        Map<Long, List<CheerImageResponse>> images = getCheerImages(cheerIds);
+
         return new CheersResponse(cheers.stream()
-                .map(cheer -> {
-                    Store store = cheer.getStore();
-                    return new CheerPreviewResponse(cheer,
-                            cheer.getImages().stream()
-                                    .map(img -> new CheerImageResponse(img, cdnBaseUrl))
-                                    .sorted(Comparator.comparingLong(CheerImageResponse::orderIndex))
-                                    .toList());
-                })
-                .toList());
+                .map(cheer -> new CheerPreviewResponse(cheer,
+                        images.getOrDefault(cheer.getId(), List.of()),
+                        tags.getOrDefault(cheer.getId(), List.of())))
+                .toList(), nextCursor);
+    }
+
+    private Map<Long, List<CheerImageResponse>> getCheerImages(List<Long> cheerIds) {
+        return cheerImageRepository.findAllByCheer_IdInOrderByOrderIndexAsc(cheerIds).stream()
+                .collect(Collectors.groupingBy(
+                        image -> image.getCheer().getId(),
+                        Collectors.mapping(image -> new CheerImageResponse(image, cdnUrlBuilder), Collectors.toList())
+                ));
     }
 
     @Transactional(readOnly = true)
     public CheersInStoreResponse getCheersByStoreId(Long storeId, int page, int size) {
-        Store store = storeRepository.getById(storeId);
-        List<Cheer> cheers = cheerRepository.findAllByStoreOrderByCreatedAtDesc(store, PageRequest.of(page, size));
+        List<CheerInStore> cheers = cheerRepository.findAllInStoreByStoreId(storeId, PageRequest.of(page, size));
+        if (cheers.isEmpty()) {
+            validateStoreExists(storeId);
+            return new CheersInStoreResponse(Collections.emptyList());
+        }
 
+        Map<Long, List<CheerTagName>> tags = getCheerTagNames(cheers.stream()
+                .map(CheerInStore::cheerId)
+                .toList());
         List<CheerInStoreResponse> cheersResponse = cheers.stream()
-                .map(CheerInStoreResponse::new)
-                .toList(); // TODO N+1 문제 해결
+                .map(cheer -> new CheerInStoreResponse(cheer.cheerId(), cheer.memberId(), cheer.memberNickname(),
+                        cheer.description(), tags.getOrDefault(cheer.cheerId(), List.of())))
+                .toList();
         return new CheersInStoreResponse(cheersResponse);
     }
+
+    // 응원이 하나라도 조회되면 가게가 존재하므로, 빈 페이지일 때만 가게 존재 여부를 확인한다
+    private void validateStoreExists(long storeId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new BusinessException(BusinessErrorCode.STORE_NOT_FOUND);
+        }
+    }
+
+    private Map<Long, List<CheerTagName>> getCheerTagNames(List<Long> cheerIds) {
+        return cheerTagRepository.findAllTagKeysByCheerIdIn(cheerIds).stream()
+                .collect(Collectors.groupingBy(
+                        CheerTagKey::cheerId,
+                        Collectors.mapping(CheerTagKey::name, Collectors.toList())
+                ));
+    }
 }
@@ -0,0 +1,29 @@
+package eatda.service.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CdnUrlBuilder {
+
+    private static final String NO_VARIANT = "";
+
+    private final String prefix;
+
+    public CdnUrlBuilder(@Value("${cdn.base-url}") String cdnBaseUrl) {
+        this.prefix = "https://" + cdnBaseUrl + "/";
+    }
+
+    public String build(String imageKey) {
+        return build(imageKey, NO_VARIANT);
+    }
+
+    public String build(String imageKey, String variant) {
+        // 최종 길이만큼 미리 잡아 중간 문자열 없이 한 번에 만든다
+        return new StringBuilder(prefix.length() + imageKey.length() + variant.length())
+                .append(prefix)
+                .append(imageKey)
+                .append(variant)
+                .toString();
+    }
+}
@@ -0,0 +1,191 @@
+package eatda.service.image;
+
+import eatda.client.file.FileClient;
+import eatda.client.file.FileMove;
+import eatda.client.file.FileMoveResult;
+import eatda.config.CacheConfig;
+import eatda.domain.ImageDomain;
+import eatda.domain.image.ImageMoveTask;
+import eatda.repository.cheer.CheerImageRepository;
+import eatda.repository.image.ImageMoveTaskRepository;
+import eatda.repository.story.StoryImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class ImageMoveService {
+
+    private static final int MOVE_BATCH_SIZE = 100;
+
+    private final ImageMoveTaskRepository imageMoveTaskRepository;
+    private final CheerImageRepository cheerImageRepository;
+    private final StoryImageRepository storyImageRepository;
+    private final FileClient fileClient;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final Counter failedCounter;
+
+    public ImageMoveService(ImageMoveTaskRepository imageMoveTaskRepository,
+                            CheerImageRepository cheerImageRepository,
+                            StoryImageRepository storyImageRepository,
+                            FileClient fileClient,
+                            TransactionTemplate transactionTemplate,
+                            CacheManager cacheManager,
+                            MeterRegistry meterRegistry) {
+        this.imageMoveTaskRepository = imageMoveTaskRepository;
+        this.cheerImageRepository = cheerImageRepository;
+        this.storyImageRepository = storyImageRepository;
+        this.fileClient = fileClient;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.failedCounter = meterRegistry.counter("file.move.failed");
+    }
+
+    // 이미지는 이동이 확인될 때까지 임시 키로 제공되고, 확인되면 영구 키로 바뀐다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserveMoves(ImageDomain domain, long domainId, List<String> tempKeys) {
+        List<ImageMoveTask> tasks = tempKeys.stream()
+                .map(tempKey -> new ImageMoveTask(tempKey, domain.getPermanentKey(domainId, tempKey)))
+                .toList();
+        imageMoveTaskRepository.saveAll(tasks);
+    }
+
+    @Scheduled(fixedDelay = 1_000)
+    public void movePendingImages() {
+        List<ImageMoveTask> tasks;
+        do {
+            tasks = claimDueTasks();
+            Map<Boolean, List<ImageMoveTask>> tasksByCopied = tasks.stream()
+                    .collect(Collectors.partitioningBy(ImageMoveTask::isCopied));
+            moveImages(tasksByCopied.get(false));
+            deleteCopiedTempImages(tasksByCopied.get(true));
+        } while (tasks.size() == MOVE_BATCH_SIZE);
+    }
+
+    // 잠긴 작업은 건너뛰고, 가져간 작업은 임대 시간만큼 미뤄 두어 다른 인스턴스와 같은 작업을 처리하지 않는다
+    private List<ImageMoveTask> claimDueTasks() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ImageMoveTask> tasks = imageMoveTaskRepository.findDueTasks(now, MOVE_BATCH_SIZE);
+            tasks.forEach(task -> task.lease(now));
+            return tasks;
+        });
+    }
+
+    private void moveImages(List<ImageMoveTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<FileMove, ImageMoveTask> tasksByFileMove = tasks.stream()
+                .collect(Collectors.toMap(this::toFileMove, Function.identity()));
+        List<FileMoveResult> results = fileClient.moveTempFilesToPermanent(List.copyOf(tasksByFileMove.keySet()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageMoveTask> movedTasks = new ArrayList<>();
+        List<ImageMoveTask> copiedTasks = new ArrayList<>();
+        List<ImageMoveTask> failedTasks = new ArrayList<>();
+        for (FileMoveResult result : results) {
+            ImageMoveTask task = tasksByFileMove.get(result.fileMove());
+            switch (result.status()) {
+                case MOVED -> movedTasks.add(task);
+                case COPIED -> {
+                    task.markCopied(now); // 영구 파일은 준비됐으니 임시 파일 삭제만 다시 시도한다
+                    copiedTasks.add(task);
+                }
+                case FAILED -> {
+                    task.retryLater(now);
+                    failedTasks.add(task);
+                }
+            }
+        }
+
+        List<ImageMoveTask> confirmedTasks = new ArrayList<>(movedTasks);
+        confirmedTasks.addAll(copiedTasks);
+        List<Long> affectedStoreIds = transactionTemplate.execute(status -> {
+            List<Long> storeIds = confirmImageKeys(confirmedTasks);
+            imageMoveTaskRepository.deleteAllInBatch(movedTasks);
+            imageMoveTaskRepository.saveAll(copiedTasks);
+            imageMoveTaskRepository.saveAll(failedTasks);
+            return storeIds;
+        });
+        evictStoreImages(affectedStoreIds);
+        recordFailures(failedTasks);
+    }
+
+    // 영구 키의 도메인 접두사로 대상 테이블을 골라 테이블마다 한 문장으로 바꾸고, 바뀐 응원 이미지의 가게 ID를 반환한다
+    private List<Long> confirmImageKeys(List<ImageMoveTask> tasks) {
+        Map<String, String> cheerImageKeys = permanentKeysByTempKey(tasks, ImageDomain.CHEER);
+        Map<String, String> storyImageKeys = permanentKeysByTempKey(tasks, ImageDomain.STORY);
+        cheerImageRepository.updateImageKeys(cheerImageKeys);
+        storyImageRepository.updateImageKeys(storyImageKeys);
+        if (cheerImageKeys.isEmpty()) {
+            return List.of();
+        }
+        return cheerImageRepository.findStoreIdsByImageKeyIn(cheerImageKeys.values());
+    }
+
+    private Map<String, String> permanentKeysByTempKey(List<ImageMoveTask> tasks, ImageDomain domain) {
+        return tasks.stream()
+                .filter(task -> domain.isDomainOf(task.getPermanentKey()))
+                .collect(Collectors.toMap(ImageMoveTask::getTempKey, ImageMoveTask::getPermanentKey));
+    }
+
+    // 캐시된 가게 이미지 URL 이 곧 삭제될 임시 키를 가리키지 않도록 해당 가게만 비운다
+    private void evictStoreImages(List<Long> storeIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.STORE_IMAGES);
+        if (cache != null) {
+            storeIds.forEach(cache::evict);
+        }
+    }
+
+    private void recordFailures(List<ImageMoveTask> tasks) {
+        tasks.stream()
+                .filter(ImageMoveTask::isFailed)
+                .forEach(task -> {
+                    failedCounter.increment();
+                    log.error("[ImageMoveFailed] {} -> {} after {} attempts",
+                            task.getTempKey(), task.getPermanentKey(), task.getAttemptCount());
+                });
+    }
+
+    private void deleteCopiedTempImages(List<ImageMoveTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<String> tempKeys = tasks.stream()
+                .map(ImageMoveTask::getTempKey)
+                .toList();
+        Set<String> deletedKeys = new HashSet<>(fileClient.deleteFiles(tempKeys));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Boolean, List<ImageMoveTask>> tasksByDeleted = tasks.stream()
+                .collect(Collectors.partitioningBy(task -> deletedKeys.contains(task.getTempKey())));
+        tasksByDeleted.get(false).forEach(task -> task.retryLater(now));
+        transactionTemplate.executeWithoutResult(status -> {
+            imageMoveTaskRepository.deleteAllInBatch(tasksByDeleted.get(true));
+            imageMoveTaskRepository.saveAll(tasksByDeleted.get(false));
+        });
+        recordFailures(tasksByDeleted.get(false));
+    }
+
+    private FileMove toFileMove(ImageMoveTask task) {
+        return new FileMove(task.getTempKey(), task.getPermanentKey());
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,25 +23,29 @@ public class PresignedUrlService {
     private static final Duration PRESIGNED_URL_DURATION = Duration.ofMinutes(10);
     private static final long MAX_FILE_SIZE = 1024 * 1024 * 10;
     private static final String EXTENSION_DELIMITER = ".";
-    private static final String FILE_PATH = "temp/";
+    static final String FILE_PATH = "temp/";
 
     private final FileClient fileClient;
 
     public PresignedUrlResponse generatePresignedUrl(PresignedUrlRequest request) {
         validateRequest(request);
-        List<PresignedUrlInfo> urls = request.fileDetails().stream()
-                .map(fileDetail -> {
-                    validateContentType(fileDetail.contentType());
-                    validateFileSize(fileDetail.fileSize());
-                    String key = generateTempKey(fileDetail.contentType());
-                    String tempUrl = fileClient.generateUploadPresignedUrl(key, PRESIGNED_URL_DURATION);
-                    return new PresignedUrlInfo(
-                            fileDetail.order(),
-                            fileDetail.contentType(),
-                            key,
-                            tempUrl,
-                            PRESIGNED_URL_DURATION.toSeconds());
-                })
+        List<PresignedUrlRequest.FileDetail> fileDetails = request.fileDetails();
+        fileDetails.forEach(fileDetail -> {
+            validateContentType(fileDetail.contentType());
+            validateFileSize(fileDetail.fileSize());
+        });
+
+        List<String> keys = fileDetails.stream()
+                .map(fileDetail -> generateTempKey(fileDetail.contentType()))
+                .toList();
+        List<String> tempUrls = fileClient.generateUploadPresignedUrls(keys, PRESIGNED_URL_DURATION);
+        List<PresignedUrlInfo> urls = IntStream.range(0, fileDetails.size())
+                .mapToObj(i -> new PresignedUrlInfo(
+                        fileDetails.get(i).order(),
+                        fileDetails.get(i).contentType(),
+                        keys.get(i),
+                        tempUrls.get(i),
+                        PRESIGNED_URL_DURATION.toSeconds()))
                 .sorted(Comparator.comparingDouble(PresignedUrlInfo::order))
                 .toList();
         return new PresignedUrlResponse(urls);
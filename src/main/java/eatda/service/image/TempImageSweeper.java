@@ -0,0 +1,92 @@
+package eatda.service.image;
+
+import eatda.client.file.FileClient;
+import eatda.client.file.StoredFile;
+import eatda.repository.image.ImageMoveTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TempImageSweeper {
+
+    private static final Duration TEMP_IMAGE_RETENTION = Duration.ofDays(1);
+    private static final int DELETE_BATCH_SIZE = 1_000;
+    private static final int MAX_CONCURRENT_DELETES = 4;
+
+    private final FileClient fileClient;
+    private final ImageMoveTaskRepository imageMoveTaskRepository;
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+
+    public TempImageSweeper(FileClient fileClient,
+                            ImageMoveTaskRepository imageMoveTaskRepository,
+                            MeterRegistry meterRegistry) {
+        this.fileClient = fileClient;
+        this.imageMoveTaskRepository = imageMoveTaskRepository;
+        this.scannedCounter = meterRegistry.counter("file.temp.sweep.scanned");
+        this.deletedCounter = meterRegistry.counter("file.temp.sweep.deleted");
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void sweepOrphanTempImages() {
+        Instant threshold = Instant.now().minus(TEMP_IMAGE_RETENTION);
+        Semaphore deletePermits = new Semaphore(MAX_CONCURRENT_DELETES);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             Stream<StoredFile> tempFiles = fileClient.listFiles(PresignedUrlService.FILE_PATH)) {
+            Iterator<StoredFile> iterator = tempFiles.iterator();
+            List<String> expiredKeys = new ArrayList<>();
+            while (iterator.hasNext()) {
+                StoredFile tempFile = iterator.next();
+                scannedCounter.increment();
+                if (tempFile.lastModified().isBefore(threshold)) {
+                    expiredKeys.add(tempFile.key());
+                }
+                if (expiredKeys.size() == DELETE_BATCH_SIZE) {
+                    submitDelete(executor, deletePermits, expiredKeys);
+                    expiredKeys = new ArrayList<>();
+                }
+            }
+            if (!expiredKeys.isEmpty()) {
+                submitDelete(executor, deletePermits, expiredKeys);
+            }
+        }
+    }
+
+    private void submitDelete(ExecutorService executor, Semaphore deletePermits, List<String> expiredKeys) {
+        deletePermits.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                deleteOrphans(expiredKeys);
+            } catch (RuntimeException exception) {
+                log.warn("[TempImageSweepFailed] {} keys: {}", expiredKeys.size(), exception.getMessage());
+            } finally {
+                deletePermits.release();
+            }
+        });
+    }
+
+    private void deleteOrphans(List<String> expiredKeys) {
+        // 등록은 됐지만 아직 옮겨지지 않은 임시 파일은 남겨 둔다
+        Set<String> referencedKeys = new HashSet<>(imageMoveTaskRepository.findTempKeysByTempKeyIn(expiredKeys));
+        List<String> orphanKeys = expiredKeys.stream()
+                .filter(key -> !referencedKeys.contains(key))
+                .toList();
+        deletedCounter.increment(fileClient.deleteFiles(orphanKeys).size());
+    }
+}
@@ -0,0 +1,155 @@
+package eatda.service.store;
+
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+import eatda.repository.cheer.CheerRepository;
+import eatda.repository.cheer.StoreCheer;
+import eatda.service.cheer.CheerRegisteredEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class PopularStoreRanking {
+
+    private static final Duration HALF_LIFE = Duration.ofDays(7);
+    private static final Duration REBUILD_PERIOD = Duration.ofDays(30);
+    private static final long REBUILD_DELAY_MILLIS = 10 * 60 * 1_000;
+    private static final double DECAY_PER_SECOND = Math.log(2) / HALF_LIFE.toSeconds();
+    private static final int MAX_STORE_SIZE = 10_000;
+
+    private final CheerRepository cheerRepository;
+
+    private final Object lock = new Object();
+
+    private Ranking ranking = new Ranking(LocalDateTime.now());
+    @Nullable
+    private List<CheerRegisteredEvent> eventsDuringRebuild;
+
+    // 주기적으로 DB 에서 다시 만들어 기준 시각을 옮기고, 다른 인스턴스에서 등록된 응원도 반영한다
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = REBUILD_DELAY_MILLIS, initialDelay = REBUILD_DELAY_MILLIS)
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Ranking rebuilt = new Ranking(now);
+        Set<Long> loadedCheerIds = new HashSet<>();
+        for (StoreCheer storeCheer : cheerRepository.findAllStoreCheersSince(now.minus(REBUILD_PERIOD))) {
+            rebuilt.increase(storeCheer.storeId(), storeCheer.storeCategory(), storeCheer.storeDistrict(),
+                    storeCheer.cheeredAt());
+            loadedCheerIds.add(storeCheer.cheerId());
+        }
+
+        // 재구성 중에 들어온 응원 중 조회 결과에 없던 것만 다시 반영한 뒤 교체한다
+        synchronized (lock) {
+            eventsDuringRebuild.stream()
+                    .filter(event -> !loadedCheerIds.contains(event.cheerId()))
+                    .forEach(event -> increase(rebuilt, event));
+            eventsDuringRebuild = null;
+            ranking = rebuilt;
+        }
+    }
+
+    @TransactionalEventListener
+    public void increaseScore(CheerRegisteredEvent event) {
+        synchronized (lock) {
+            increase(ranking, event);
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+        }
+    }
+
+    private void increase(Ranking ranking, CheerRegisteredEvent event) {
+        ranking.increase(event.storeId(), event.storeCategory(), event.storeDistrict(), event.cheeredAt());
+    }
+
+    public List<Long> getTopStoreIds(@Nullable StoreCategory category, List<District> districts, int size) {
+        Ranking current;
+        synchronized (lock) {
+            current = ranking;
+        }
+        return current.getTopStoreIds(category, districts, size);
+    }
+
+    private static class Ranking {
+
+        private static final Comparator<StoreScore> ORDER = Comparator.comparingDouble(StoreScore::score).reversed()
+                .thenComparingLong(StoreScore::storeId);
+
+        private final LocalDateTime baseTime;
+        private final Map<Long, StoreScore> scores = new HashMap<>();
+        private final NavigableSet<StoreScore> ordered = new TreeSet<>(ORDER);
+
+        private Ranking(LocalDateTime baseTime) {
+            this.baseTime = baseTime;
+        }
+
+        // 점수를 기준 시각으로 환산해 두면 시간이 흘러도 기존 점수를 다시 감쇠시킬 필요가 없다
+        private synchronized void increase(long storeId,
+                                           StoreCategory category,
+                                           District district,
+                                           LocalDateTime cheeredAt) {
+            double weight = Math.exp(DECAY_PER_SECOND * Duration.between(baseTime, cheeredAt).toSeconds());
+            StoreScore previous = scores.get(storeId);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            StoreScore current = previous == null
+                    ? new StoreScore(storeId, category, district, weight)
+                    : previous.add(weight);
+            scores.put(storeId, current);
+            ordered.add(current);
+
+            if (ordered.size() > MAX_STORE_SIZE) {
+                scores.remove(ordered.pollLast().storeId());
+            }
+        }
+
+        // 점수 순으로 정렬된 상태를 유지하므로 앞에서부터 조건에 맞는 가게만 size 개 고른다
+        private synchronized List<Long> getTopStoreIds(@Nullable StoreCategory category,
+                                                       List<District> districts,
+                                                       int size) {
+            List<Long> storeIds = new ArrayList<>(size);
+            for (StoreScore score : ordered) {
+                if (storeIds.size() == size) {
+                    break;
+                }
+                if (score.matches(category, districts)) {
+                    storeIds.add(score.storeId());
+                }
+            }
+            return storeIds;
+        }
+    }
+
+    private record StoreScore(long storeId, StoreCategory category, District district, double score) {
+
+        private StoreScore add(double weight) {
+            return new StoreScore(storeId, category, district, score + weight);
+        }
+
+        private boolean matches(@Nullable StoreCategory category, List<District> districts) {
+            return (category == null || this.category == category)
+                    && (districts.isEmpty() || districts.contains(district));
+        }
+    }
+}
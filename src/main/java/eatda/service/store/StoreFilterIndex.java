@@ -0,0 +1,204 @@
+package eatda.service.store;
+
+import eatda.domain.cheer.CheerTagName;
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+import eatda.repository.cheer.CheerRepository;
+import eatda.repository.cheer.CheerTagKey;
+import eatda.repository.cheer.CheerTagRepository;
+import eatda.repository.store.StoreRepository;
+import eatda.service.cheer.CheerRegisteredEvent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class StoreFilterIndex {
+
+    private static final long REFRESH_DELAY_MILLIS = 60_000;
+    private static final long REFRESH_OVERLAP = 1_000;
+
+    private final StoreRepository storeRepository;
+    private final CheerRepository cheerRepository;
+    private final CheerTagRepository cheerTagRepository;
+
+    private final Object lock = new Object();
+
+    private Bitmaps storeBitmaps = new Bitmaps();
+    private Bitmaps cheerBitmaps = new Bitmaps();
+    @Nullable
+    private List<CheerRegisteredEvent> eventsDuringRebuild;
+
+    // 전체 재구성은 시작할 때만 하고, 이후에는 refresh 로 새로 추가된 행만 반영한다
+    // 삭제된 행의 비트는 지우지 않는다. 조회 후 음식점/응원을 불러올 때 없는 ID는 건너뛴다
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        Bitmaps stores = new Bitmaps();
+        Bitmaps cheers = new Bitmaps();
+        load(stores, cheers, 0, 0);
+
+        // 재구성 중에 들어온 응원은 새 비트맵에 다시 반영한 뒤 교체한다
+        synchronized (lock) {
+            eventsDuringRebuild.forEach(event -> index(stores, cheers, event));
+            eventsDuringRebuild = null;
+            storeBitmaps = stores;
+            cheerBitmaps = cheers;
+        }
+    }
+
+    // 다른 인스턴스에서 등록된 행을 반영한다. ID 순서와 커밋 순서가 다를 수 있어 마지막 ID 이전 일부를 다시 읽는다
+    @Scheduled(fixedDelay = REFRESH_DELAY_MILLIS, initialDelay = REFRESH_DELAY_MILLIS)
+    public synchronized void refresh() {
+        Bitmaps stores = currentStoreBitmaps();
+        Bitmaps cheers = currentCheerBitmaps();
+        load(stores, cheers,
+                Math.max(stores.lastId() - REFRESH_OVERLAP, 0),
+                Math.max(cheers.lastId() - REFRESH_OVERLAP, 0));
+    }
+
+    private void load(Bitmaps stores, Bitmaps cheers, long afterStoreId, long afterCheerId) {
+        storeRepository.findAllFilterKeysAfter(afterStoreId)
+                .forEach(key -> stores.add(key.storeId(), key.category(), key.district()));
+        cheerRepository.findAllFilterKeysAfter(afterCheerId)
+                .forEach(key -> cheers.add(key.cheerId(), key.storeCategory(), key.storeDistrict()));
+        for (CheerTagKey key : cheerTagRepository.findAllTagKeysByCheerIdAfter(afterCheerId)) {
+            stores.addTag(key.storeId(), key.name());
+            cheers.addTag(key.cheerId(), key.name());
+        }
+    }
+
+    @TransactionalEventListener
+    public void index(CheerRegisteredEvent event) {
+        synchronized (lock) {
+            index(storeBitmaps, cheerBitmaps, event);
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+        }
+    }
+
+    private void index(Bitmaps stores, Bitmaps cheers, CheerRegisteredEvent event) {
+        stores.add(event.storeId(), event.storeCategory(), event.storeDistrict());
+        cheers.add(event.cheerId(), event.storeCategory(), event.storeDistrict());
+        for (CheerTagName tagName : event.tagNames()) {
+            stores.addTag(event.storeId(), tagName);
+            cheers.addTag(event.cheerId(), tagName);
+        }
+    }
+
+    public List<Long> findStoreIds(@Nullable StoreCategory category,
+                                   List<CheerTagName> tagNames,
+                                   List<District> districts,
+                                   @Nullable Long beforeId,
+                                   long offset,
+                                   int limit) {
+        return currentStoreBitmaps().find(category, tagNames, districts, beforeId, offset, limit);
+    }
+
+    public List<Long> findCheerIds(@Nullable StoreCategory category,
+                                   List<CheerTagName> tagNames,
+                                   List<District> districts,
+                                   @Nullable Long beforeId,
+                                   long offset,
+                                   int limit) {
+        return currentCheerBitmaps().find(category, tagNames, districts, beforeId, offset, limit);
+    }
+
+    private Bitmaps currentStoreBitmaps() {
+        synchronized (lock) {
+            return storeBitmaps;
+        }
+    }
+
+    private Bitmaps currentCheerBitmaps() {
+        synchronized (lock) {
+            return cheerBitmaps;
+        }
+    }
+
+    private static class Bitmaps {
+
+        private final BitSet all = new BitSet();
+        private final Map<StoreCategory, BitSet> categories = new EnumMap<>(StoreCategory.class);
+        private final Map<District, BitSet> districts = new EnumMap<>(District.class);
+        private final Map<CheerTagName, BitSet> tags = new EnumMap<>(CheerTagName.class);
+
+        private synchronized void add(long id, StoreCategory category, District district) {
+            int index = Math.toIntExact(id);
+            all.set(index);
+            categories.computeIfAbsent(category, key -> new BitSet()).set(index);
+            districts.computeIfAbsent(district, key -> new BitSet()).set(index);
+        }
+
+        private synchronized long lastId() {
+            return Math.max(all.length() - 1, 0);
+        }
+
+        private synchronized void addTag(long id, CheerTagName tagName) {
+            tags.computeIfAbsent(tagName, key -> new BitSet()).set(Math.toIntExact(id));
+        }
+
+        // 같은 조건 안에서는 OR, 조건끼리는 AND 로 후보를 좁힌 뒤, beforeId 미만의 큰 ID부터 limit 개만 꺼낸다
+        private synchronized List<Long> find(@Nullable StoreCategory category,
+                                             List<CheerTagName> tagNames,
+                                             List<District> districtNames,
+                                             @Nullable Long beforeId,
+                                             long offset,
+                                             int limit) {
+            BitSet candidates = (BitSet) all.clone();
+            if (category != null) {
+                candidates.and(categories.getOrDefault(category, new BitSet()));
+            }
+            if (!tagNames.isEmpty()) {
+                candidates.and(union(tags, tagNames));
+            }
+            if (!districtNames.isEmpty()) {
+                candidates.and(union(districts, districtNames));
+            }
+
+            List<Long> ids = new ArrayList<>(limit);
+            long skipped = 0;
+            int index = candidates.previousSetBit(startIndex(candidates, beforeId));
+            while (index >= 0 && ids.size() < limit) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    ids.add((long) index);
+                }
+                index = candidates.previousSetBit(index - 1);
+            }
+            return ids;
+        }
+
+        private int startIndex(BitSet candidates, @Nullable Long beforeId) {
+            if (beforeId == null) {
+                return candidates.length() - 1;
+            }
+            return (int) Math.min(beforeId - 1, candidates.length() - 1);
+        }
+
+        private <K> BitSet union(Map<K, BitSet> bitmaps, List<K> keys) {
+            BitSet union = new BitSet();
+            for (K key : keys) {
+                BitSet bitmap = bitmaps.get(key);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            return union;
+        }
+    }
+}
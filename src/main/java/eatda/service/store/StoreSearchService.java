@@ -4,7 +4,10 @@ import eatda.client.map.MapClient;
 import eatda.client.map.MapClientStoreSearchResult;
 import eatda.domain.store.StoreSearchFilter;
 import eatda.domain.store.StoreSearchResult;
+import eatda.repository.store.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,10 +15,22 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StoreSearchService {
 
+    private static final String STORE_RESOLUTION_METRIC = "store.resolution";
+
     private final MapClient mapClient;
     private final StoreSearchFilter storeSearchFilter;
+    private final StoreRepository storeRepository;
+    private final MeterRegistry meterRegistry;
 
     public StoreSearchResult searchStoreByKakaoId(String name, String kakaoId) {
+        Optional<StoreSearchResult> localResult = storeRepository.findByKakaoId(kakaoId)
+                .map(StoreSearchResult::from);
+        if (localResult.isPresent()) {
+            meterRegistry.counter(STORE_RESOLUTION_METRIC, "source", "local").increment();
+            return localResult.get();
+        }
+
+        meterRegistry.counter(STORE_RESOLUTION_METRIC, "source", "kakao").increment();
         List<MapClientStoreSearchResult> searchResults = mapClient.searchStores(name);
         return storeSearchFilter.filterStoreByKakaoId(searchResults, kakaoId);
     }
@@ -1,5 +1,6 @@
 package eatda.service.store;
 
+import eatda.config.CacheConfig;
 import eatda.controller.store.ImagesResponse;
 import eatda.controller.store.StoreInMemberResponse;
 import eatda.controller.store.StorePreviewResponse;
@@ -8,22 +9,31 @@ import eatda.controller.store.StoreSearchParameters;
 import eatda.controller.store.StoresInMemberResponse;
 import eatda.controller.store.StoresResponse;
 import eatda.controller.store.TagsResponse;
-import eatda.domain.cheer.CheerImage;
-import eatda.domain.cheer.CheerTag;
+import eatda.domain.Cursor;
+import eatda.domain.cheer.CheerTagName;
 import eatda.domain.store.Store;
+import eatda.repository.CursorSpecification;
 import eatda.repository.cheer.CheerImageRepository;
 import eatda.repository.cheer.CheerRepository;
+import eatda.repository.cheer.CheerTagCount;
 import eatda.repository.cheer.CheerTagRepository;
+import eatda.repository.cheer.StoreImageKey;
 import eatda.repository.store.StoreRepository;
+import eatda.service.cheer.CheerRegisteredEvent;
+import eatda.service.image.CdnUrlBuilder;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
@@ -33,60 +43,149 @@ public class StoreService {
     private final CheerRepository cheerRepository;
     private final CheerTagRepository cheerTagRepository;
     private final CheerImageRepository cheerImageRepository;
+    private final CdnUrlBuilder cdnUrlBuilder;
+    private final PopularStoreRanking popularStoreRanking;
+    private final StoreFilterIndex storeFilterIndex;
 
-    @Value("${cdn.base-url}")
-    private String cdnBaseUrl;
-
+    @Cacheable(cacheNames = CacheConfig.STORE, key = "#storeId")
     public StoreResponse getStore(long storeId) {
         Store store = storeRepository.getById(storeId);
         return new StoreResponse(store);
     }
 
-    // TODO : N+1 문제 해결
     @Transactional(readOnly = true)
     public StoresResponse getStores(StoreSearchParameters parameters) {
-        List<Store> stores = storeRepository.findAllByConditions(
+        if (parameters.hasFilter()) {
+            return getFilteredStores(parameters);
+        }
+        List<Store> stores = findStores(parameters);
+        return toStoresResponse(stores, getNextCursor(stores, parameters.getSize()));
+    }
+
+    private List<Store> findStores(StoreSearchParameters parameters) {
+        if (parameters.getCursor() == null) {
+            return storeRepository.findAllByConditions(
+                    parameters.getCategory(),
+                    parameters.getCheerTagNames(),
+                    parameters.getDistricts(),
+                    PageRequest.of(parameters.getPage(), parameters.getSize(), CursorSpecification.CURSOR_SORT)
+            );
+        }
+        return storeRepository.findAllByConditions(
+                parameters.getCategory(),
+                parameters.getCheerTagNames(),
+                parameters.getDistricts(),
+                parameters.getCursor(),
+                parameters.getSize()
+        );
+    }
+
+    // 비트맵에서 size + 1 개의 ID만 꺼내 다음 페이지 여부를 판단하고, SQL 에는 size 개의 ID만 보낸다
+    private StoresResponse getFilteredStores(StoreSearchParameters parameters) {
+        int size = parameters.getSize();
+        Cursor cursor = parameters.getCursor();
+        List<Long> storeIds = storeFilterIndex.findStoreIds(
                 parameters.getCategory(),
                 parameters.getCheerTagNames(),
                 parameters.getDistricts(),
-                PageRequest.of(parameters.getPage(), parameters.getSize(), Sort.by(Direction.DESC, "createdAt"))
+                cursor == null ? null : cursor.id(),
+                cursor == null ? (long) parameters.getPage() * size : 0,
+                size + 1
         );
+        List<Store> stores = storeRepository.findAllByIds(
+                storeIds.subList(0, Math.min(size, storeIds.size())));
 
+        if (storeIds.size() <= size || stores.isEmpty()) {
+            return toStoresResponse(stores, null);
+        }
+        Store lastStore = stores.getLast();
+        return toStoresResponse(stores, new Cursor(lastStore.getCreatedAt(), lastStore.getId()).encode());
+    }
+
+    private StoresResponse toStoresResponse(List<Store> stores, @Nullable String nextCursor) {
+        Map<Long, String> imageUrls = getStoreImageUrls(stores);
+        Map<Long, List<String>> cheerDescriptions = cheerRepository.findAllDescriptionsByStoreIds(
+                stores.stream().map(Store::getId).toList());
         List<StorePreviewResponse> responses = stores.stream()
-                .map(store -> new StorePreviewResponse(store, getStoreImageUrl(store).orElse(null)))
+                .map(store -> new StorePreviewResponse(
+                        store,
+                        imageUrls.get(store.getId()),
+                        cheerDescriptions.getOrDefault(store.getId(), Collections.emptyList())
+                ))
                 .toList();
-        return new StoresResponse(responses);
+        return new StoresResponse(responses, nextCursor);
     }
 
+    @Transactional(readOnly = true)
+    public StoresResponse getPopularStores(StoreSearchParameters parameters) {
+        List<Long> storeIds = popularStoreRanking.getTopStoreIds(
+                parameters.getCategory(), parameters.getDistricts(), parameters.getSize());
+        List<Store> stores = storeRepository.findAllByIds(storeIds);
+        return toStoresResponse(stores, null);
+    }
+
+    @Nullable
+    private String getNextCursor(List<Store> stores, int size) {
+        if (stores.size() < size) {
+            return null;
+        }
+        Store lastStore = stores.getLast();
+        return new Cursor(lastStore.getCreatedAt(), lastStore.getId()).encode();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.STORE_TAGS, key = "#storeId")
     @Transactional(readOnly = true)
     public TagsResponse getStoreTags(long storeId) {
         Store store = storeRepository.getById(storeId);
-        List<CheerTag> cheerTags = cheerTagRepository.findAllByCheerStore(store);
-        return TagsResponse.from(cheerTags);
+        List<CheerTagName> cheerTagNames = cheerTagRepository.countAllByStoreId(store.getId())
+                .stream()
+                .map(CheerTagCount::name)
+                .toList();
+        return new TagsResponse(cheerTagNames);
     }
 
+    @Cacheable(cacheNames = CacheConfig.STORE_IMAGES, key = "#storeId")
     @Transactional(readOnly = true)
     public ImagesResponse getStoreImages(long storeId) {
         Store store = storeRepository.getById(storeId);
         List<String> urls = cheerImageRepository.findAllByCheer_StoreOrderByOrderIndexAsc(store)
                 .stream()
-                .map(img -> "https://" + cdnBaseUrl + "/" + img.getImageKey())
+                .map(img -> cdnUrlBuilder.build(img.getImageKey()))
                 .toList();
         return new ImagesResponse(urls);
     }
 
-    private Optional<String> getStoreImageUrl(Store store) {
-        return cheerImageRepository.findFirstByCheer_Store_IdOrderByCreatedAtDesc(store.getId())
-                .map(CheerImage::getImageKey)
-                .map(imageKey -> "https://" + cdnBaseUrl + "/" + imageKey);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STORE, key = "#event.storeId()"),
+            @CacheEvict(cacheNames = CacheConfig.STORE_TAGS, key = "#event.storeId()"),
+            @CacheEvict(cacheNames = CacheConfig.STORE_IMAGES, key = "#event.storeId()")
+    })
+    @TransactionalEventListener
+    public void evictStoreCaches(CheerRegisteredEvent event) {
+        // 응원 등록이 커밋된 뒤 가게 캐시를 비운다
+    }
+
+    private Map<Long, String> getStoreImageUrls(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> storeIds = stores.stream()
+                .map(Store::getId)
+                .toList();
+        return cheerImageRepository.findLatestImageKeysByStoreIds(storeIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        StoreImageKey::storeId,
+                        storeImageKey -> cdnUrlBuilder.build(storeImageKey.imageKey())
+                ));
     }
 
     @Transactional(readOnly = true)
     public StoresInMemberResponse getStoresByCheeredMember(long memberId) {
         List<Store> stores = storeRepository.findAllByCheeredMemberId(memberId);
         List<StoreInMemberResponse> responses = stores.stream()
-                .map(store -> new StoreInMemberResponse(store, cheerRepository.countByStore(store)))
-                .toList(); // TODO : N+1 문제 해결 (특정 회원의 가게는 3명 제한이라 중요도 낮음)
+                .map(StoreInMemberResponse::new)
+                .toList();
         return new StoresInMemberResponse(responses);
     }
 }
@@ -1,6 +1,5 @@
 package eatda.service.story;
 
-import eatda.client.file.FileClient;
 import eatda.controller.story.StoriesDetailResponse;
 import eatda.controller.story.StoriesInMemberResponse;
 import eatda.controller.story.StoriesResponse;
@@ -9,6 +8,7 @@ import eatda.controller.story.StoryInMemberResponse;
 import eatda.controller.story.StoryRegisterRequest;
 import eatda.controller.story.StoryRegisterResponse;
 import eatda.controller.story.StoryResponse;
+import eatda.domain.Cursor;
 import eatda.domain.ImageDomain;
 import eatda.domain.member.Member;
 import eatda.domain.store.Store;
@@ -21,13 +21,17 @@ import eatda.repository.member.MemberRepository;
 import eatda.repository.store.StoreRepository;
 import eatda.repository.story.StoryImageRepository;
 import eatda.repository.story.StoryRepository;
+import eatda.service.image.CdnUrlBuilder;
+import eatda.service.image.ImageMoveService;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,10 +45,8 @@ public class StoryService {
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
     private final StoryImageRepository storyImageRepository;
-    private final FileClient fileClient;
-
-    @Value("${cdn.base-url}")
-    private String cdnBaseUrl;
+    private final ImageMoveService imageMoveService;
+    private final CdnUrlBuilder cdnUrlBuilder;
 
     @Transactional
     public StoryRegisterResponse registerStory(StoryRegisterRequest request,
@@ -53,9 +55,12 @@ public class StoryService {
                                                long memberId) {
         Member member = memberRepository.getById(memberId);
 
+        Long storeId = resolveStoreId(result);
+
         Story story = storyRepository.save(Story.builder()
                 .member(member)
                 .storeKakaoId(result.kakaoId())
+                .storeId(storeId)
                 .storeName(result.name())
                 .storeRoadAddress(result.roadAddress())
                 .storeLotNumberAddress(result.lotNumberAddress())
@@ -63,15 +68,23 @@ public class StoryService {
                 .description(request.description())
                 .build());
 
-        // TODO 트랜잭션 범위 축소
         List<StoryRegisterRequest.UploadedImageDetail> sortedImages = sortImages(request.images());
-        List<String> permanentKeys = moveImages(domain.getName(), story.getId(), sortedImages);
+        reserveImageMoves(domain, story.getId(), sortedImages);
 
-        saveStoryImages(story, sortedImages, permanentKeys);
+        saveStoryImages(story, sortedImages);
 
         return new StoryRegisterResponse(story.getId());
     }
 
+    private Long resolveStoreId(StoreSearchResult result) {
+        if (result.isSaved()) {
+            return result.storeId();
+        }
+        return storeRepository.findByKakaoId(result.kakaoId())
+                .map(Store::getId)
+                .orElse(null);
+    }
+
     private List<StoryRegisterRequest.UploadedImageDetail> sortImages(
             List<StoryRegisterRequest.UploadedImageDetail> images) {
         return images.stream()
@@ -79,24 +92,23 @@ public class StoryService {
                 .toList();
     }
 
-    private List<String> moveImages(String domainName,
-                                    long storyId,
-                                    List<StoryRegisterRequest.UploadedImageDetail> sortedImages) {
+    private void reserveImageMoves(ImageDomain domain,
+                                   long storyId,
+                                   List<StoryRegisterRequest.UploadedImageDetail> sortedImages) {
         List<String> tempKeys = sortedImages.stream()
                 .map(StoryRegisterRequest.UploadedImageDetail::imageKey)
                 .toList();
-        return fileClient.moveTempFilesToPermanent(domainName, storyId, tempKeys);
+        imageMoveService.reserveMoves(domain, storyId, tempKeys);
     }
 
     private void saveStoryImages(Story story,
-                                 List<StoryRegisterRequest.UploadedImageDetail> sortedImages,
-                                 List<String> permanentKeys) {
+                                 List<StoryRegisterRequest.UploadedImageDetail> sortedImages) {
         IntStream.range(0, sortedImages.size())
                 .forEach(i -> {
                     var detail = sortedImages.get(i);
                     StoryImage storyImage = new StoryImage(
                             story,
-                            permanentKeys.get(i),
+                            detail.imageKey(),
                             detail.orderIndex(),
                             detail.contentType(),
                             detail.fileSize()
@@ -108,22 +120,37 @@ public class StoryService {
     }
 
     @Transactional(readOnly = true)
-    public StoriesResponse getPagedStoryPreviews(int size) {
-        Page<Story> page = storyRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(PAGE_START_NUMBER, size));
-        return toStoriesResponse(page.getContent());
+    public StoriesResponse getPagedStoryPreviews(@Nullable Cursor cursor, int size) {
+        List<Story> stories = findStories(cursor, size);
+        return toStoriesResponse(stories, getNextCursor(stories, size));
+    }
+
+    private List<Story> findStories(@Nullable Cursor cursor, int size) {
+        if (cursor == null) {
+            return storyRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(PAGE_START_NUMBER, size));
+        }
+        return storyRepository.findAllByCursor(cursor.createdAt(), cursor.id(), PageRequest.of(PAGE_START_NUMBER, size));
     }
 
-    private StoriesResponse toStoriesResponse(List<Story> stories) {
+    @Nullable
+    private String getNextCursor(List<Story> stories, int size) {
+        if (stories.size() < size) {
+            return null;
+        }
+        Story lastStory = stories.getLast();
+        return new Cursor(lastStory.getCreatedAt(), lastStory.getId()).encode();
+    }
+
+    private StoriesResponse toStoriesResponse(List<Story> stories, @Nullable String nextCursor) {
+        Map<Long, List<StoryImageResponse>> images = getStoryImages(stories);
         return new StoriesResponse(
                 stories.stream()
                         .map(story -> new StoriesResponse.StoryPreview(
                                 story.getId(),
-                                story.getImages().stream()
-                                        .map(img -> new StoryImageResponse(img, cdnBaseUrl))
-                                        .sorted(Comparator.comparingLong(StoryImageResponse::orderIndex))
-                                        .toList()
+                                images.getOrDefault(story.getId(), List.of())
                         ))
-                        .toList()
+                        .toList(),
+                nextCursor
         );
     }
 
@@ -132,11 +159,7 @@ public class StoryService {
         Story story = storyRepository.findById(storyId)
                 .orElseThrow(() -> new BusinessException(BusinessErrorCode.STORY_NOT_FOUND));
 
-        Long storeId = storeRepository.findByKakaoId(story.getStoreKakaoId())
-                .map(Store::getId)
-                .orElse(null);
-
-        return new StoryResponse(story, storeId, cdnBaseUrl);
+        return new StoryResponse(story, story.getStoreId(), cdnUrlBuilder);
     }
 
     @Transactional(readOnly = true)
@@ -145,14 +168,10 @@ public class StoryService {
                 .findAllByStoreKakaoIdOrderByCreatedAtDesc(kakaoId, PageRequest.of(PAGE_START_NUMBER, size))
                 .getContent();
 
+        Map<Long, List<StoryImageResponse>> images = getStoryImages(stories);
         List<StoriesDetailResponse.StoryDetailResponse> responses = stories.stream()
                 .map(story -> new StoriesDetailResponse.StoryDetailResponse(
-                        story,
-                        storyImageRepository.findAllByStory_IdOrderByOrderIndexAsc(story.getId())
-                                .stream()
-                                .map(img -> new StoryImageResponse(img, cdnBaseUrl))
-                                .toList()
-                ))
+                        story, images.getOrDefault(story.getId(), List.of())))
                 .toList();
 
         return new StoriesDetailResponse(responses);
@@ -164,17 +183,26 @@ public class StoryService {
                 .findAllByMemberIdOrderByCreatedAtDesc(memberId, PageRequest.of(page, size))
                 .getContent();
 
+        Map<Long, List<StoryImageResponse>> images = getStoryImages(stories);
         List<StoryInMemberResponse> responses = stories.stream()
-                .map(story -> {
-                    List<StoryImageResponse> images = storyImageRepository
-                            .findAllByStory_IdOrderByOrderIndexAsc(story.getId())
-                            .stream()
-                            .map(img -> new StoryImageResponse(img, cdnBaseUrl))
-                            .toList();
-                    return new StoryInMemberResponse(story, images);
-                })
+                .map(story -> new StoryInMemberResponse(story, images.getOrDefault(story.getId(), List.of())))
                 .toList();
 
         return new StoriesInMemberResponse(responses);
     }
+
+    private Map<Long, List<StoryImageResponse>> getStoryImages(List<Story> stories) {
+        if (stories.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> storyIds = stories.stream()
+                .map(Story::getId)
+                .toList();
+        return storyImageRepository.findAllByStory_IdInOrderByOrderIndexAsc(storyIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        img -> img.getStory().getId(),
+                        Collectors.mapping(img -> new StoryImageResponse(img, cdnUrlBuilder), Collectors.toList())
+                ));
+    }
 }
@@ -0,0 +1,3 @@
+CREATE INDEX `idx_store_created_at_id` ON `store` (`created_at`, `id`);
+CREATE INDEX `idx_cheer_created_at_id` ON `cheer` (`created_at`, `id`);
+CREATE INDEX `idx_story_created_at_id` ON `story` (`created_at`, `id`);
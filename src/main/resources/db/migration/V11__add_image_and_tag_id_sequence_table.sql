@@ -0,0 +1,26 @@
+CREATE TABLE `cheer_tag_seq`
+(
+    `next_val` BIGINT NOT NULL
+);
+
+CREATE TABLE `cheer_image_seq`
+(
+    `next_val` BIGINT NOT NULL
+);
+
+CREATE TABLE `story_image_seq`
+(
+    `next_val` BIGINT NOT NULL
+);
+
+INSERT INTO `cheer_tag_seq` (`next_val`)
+SELECT COALESCE(MAX(`id`), 0) + 51
+FROM `cheer_tag`;
+
+INSERT INTO `cheer_image_seq` (`next_val`)
+SELECT COALESCE(MAX(`id`), 0) + 51
+FROM `cheer_image`;
+
+INSERT INTO `story_image_seq` (`next_val`)
+SELECT COALESCE(MAX(`id`), 0) + 51
+FROM `story_image`;
@@ -0,0 +1,21 @@
+CREATE TABLE `image_move_task`
+(
+    `id`              BIGINT       NOT NULL,
+    `temp_key`        VARCHAR(511) NOT NULL,
+    `permanent_key`   VARCHAR(511) NOT NULL,
+    `status`          VARCHAR(31)  NOT NULL,
+    `attempt_count`   INT          NOT NULL,
+    `next_attempt_at` TIMESTAMP    NOT NULL,
+    `created_at`      TIMESTAMP    NOT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_image_move_task_temp_key` (`temp_key`),
+    INDEX `idx_image_move_task_status_next_attempt_at` (`status`, `next_attempt_at`)
+);
+
+CREATE TABLE `image_move_task_seq`
+(
+    `next_val` BIGINT NOT NULL
+);
+
+INSERT INTO `image_move_task_seq` (`next_val`)
+VALUES (1);
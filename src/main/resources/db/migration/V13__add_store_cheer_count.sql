@@ -0,0 +1,5 @@
+ALTER TABLE `store`
+    ADD COLUMN `cheer_count` BIGINT NOT NULL DEFAULT 0;
+
+UPDATE `store` s
+SET s.`cheer_count` = (SELECT COUNT(*) FROM `cheer` c WHERE c.`store_id` = s.`id`);
@@ -0,0 +1,7 @@
+CREATE INDEX `idx_cheer_store_id_created_at` ON `cheer` (`store_id`, `created_at`);
+CREATE INDEX `idx_cheer_member_id_store_id` ON `cheer` (`member_id`, `store_id`);
+CREATE INDEX `idx_story_store_kakao_id_created_at` ON `story` (`store_kakao_id`, `created_at`);
+CREATE INDEX `idx_story_member_id_created_at` ON `story` (`member_id`, `created_at`);
+CREATE INDEX `idx_store_district_category_created_at` ON `store` (`district`, `category`, `created_at`);
+CREATE INDEX `idx_cheer_image_cheer_id_created_at` ON `cheer_image` (`cheer_id`, `created_at`);
+CREATE INDEX `idx_cheer_tag_name_cheer_id` ON `cheer_tag` (`name`, `cheer_id`);
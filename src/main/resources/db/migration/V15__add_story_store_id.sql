@@ -0,0 +1,7 @@
+ALTER TABLE `story`
+    ADD COLUMN `store_id` BIGINT NULL,
+    ADD CONSTRAINT `fk_story_store_id` FOREIGN KEY (`store_id`) REFERENCES `store` (`id`) ON DELETE SET NULL;
+
+UPDATE `story` s
+    JOIN `store` st ON st.`kakao_id` = s.`store_kakao_id`
+SET s.`store_id` = st.`id`;
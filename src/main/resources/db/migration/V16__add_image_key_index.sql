@@ -0,0 +1,2 @@
+CREATE INDEX `idx_cheer_image_image_key` ON `cheer_image` (`image_key`);
+CREATE INDEX `idx_story_image_image_key` ON `story_image` (`image_key`);
@@ -4,6 +4,7 @@ import jakarta.persistence.EntityManager;
 import java.util.List;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -14,6 +15,7 @@ public class DatabaseCleaner implements BeforeEachCallback {
     public void beforeEach(ExtensionContext extensionContext) {
         ApplicationContext context = SpringExtension.getApplicationContext(extensionContext);
         cleanup(context);
+        clearCaches(context);
     }
 
     private void cleanup(ApplicationContext context) {
@@ -27,6 +29,11 @@ public class DatabaseCleaner implements BeforeEachCallback {
         });
     }
 
+    private void clearCaches(ApplicationContext context) {
+        context.getBeanProvider(CacheManager.class).ifAvailable(cacheManager ->
+                cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear()));
+    }
+
     private void truncateTables(EntityManager em) {
         em.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
         for (String tableName : findTableNames(em)) {
@@ -0,0 +1,39 @@
+package eatda;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class QueryCountReport {
+
+    private static final Path REPORT_PATH = Path.of("build", "reports", "query-count", "query-count.md");
+    private static final Map<String, Entry> ENTRIES = new TreeMap<>();
+
+    private QueryCountReport() {
+    }
+
+    public static synchronized void record(String name, long expected, long actual) {
+        ENTRIES.put(name, new Entry(expected, actual));
+        write();
+    }
+
+    private static void write() {
+        StringBuilder report = new StringBuilder()
+                .append("| 요청 | 기대 SQL 수 | 실제 SQL 수 |\n")
+                .append("|---|---|---|\n");
+        ENTRIES.forEach((name, entry) -> report.append("| %s | %d | %d |\n"
+                .formatted(name, entry.expected(), entry.actual())));
+        try {
+            Files.createDirectories(REPORT_PATH.getParent());
+            Files.writeString(REPORT_PATH, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(long expected, long actual) {
+    }
+}
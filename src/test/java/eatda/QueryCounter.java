@@ -0,0 +1,36 @@
+package eatda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Statistics 는 전역 값이므로 동시에 실행되는 다른 쿼리가 없을 때만 정확하다
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    public <T> T assertCount(String name, long expected, Supplier<T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        long actual = count(() -> result.set(action.get()));
+        QueryCountReport.record(name, expected, actual);
+
+        assertThat(actual).as("%s 에서 실행된 SQL 문 수", name).isEqualTo(expected);
+        return result.get();
+    }
+}
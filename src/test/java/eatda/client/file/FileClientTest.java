@@ -1,18 +1,27 @@
 package eatda.client.file;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,8 +29,17 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
@@ -31,6 +49,7 @@ class FileClientTest {
     private S3Client s3Client;
     private String bucket;
     private S3Presigner s3Presigner;
+    private SimpleMeterRegistry meterRegistry;
     private FileClient fileClient;
 
     @BeforeEach
@@ -38,21 +57,39 @@ class FileClientTest {
         this.s3Client = mock(S3Client.class);
         this.bucket = "test-bucket";
         this.s3Presigner = mock(S3Presigner.class);
-        this.fileClient = new FileClient(s3Client, bucket, s3Presigner);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.fileClient = new FileClient(s3Client, bucket, s3Presigner, meterRegistry);
     }
 
     @Nested
-    class GenerateUploadPresignedUrl {
+    class GenerateUploadPresignedUrls {
 
         @Test
-        void 주어진_파일_Key에_대해_업로드용_사전_서명된_URL을_반환한다() throws MalformedURLException {
-            String fileKey = "test-file-key.jpg";
+        void 주어진_파일_Key들에_대해_업로드용_사전_서명된_URL을_반환한다() throws MalformedURLException {
             String expected = "https://example.com/test-file-key.jpg";
             doReturn(mockPresignedRequest(expected)).when(s3Presigner).presignPutObject(any(PutObjectPresignRequest.class));
 
-            String actual = fileClient.generateUploadPresignedUrl(fileKey, Duration.ofMinutes(10));
+            List<String> actual = fileClient.generateUploadPresignedUrls(
+                    List.of("test-file-key.jpg"), Duration.ofMinutes(10));
 
-            assertThat(actual).isEqualTo(expected);
+            assertThat(actual).containsExactly(expected);
+        }
+
+        @Test
+        void 파일이_많으면_병렬로_서명해도_요청한_순서대로_반환한다() {
+            List<String> fileKeys = IntStream.range(0, 20)
+                    .mapToObj(i -> "temp/" + i + ".jpg")
+                    .toList();
+            doAnswer(invocation -> {
+                PutObjectPresignRequest request = invocation.getArgument(0);
+                return mockPresignedRequest("https://example.com/" + request.putObjectRequest().key());
+            }).when(s3Presigner).presignPutObject(any(PutObjectPresignRequest.class));
+
+            List<String> actual = fileClient.generateUploadPresignedUrls(fileKeys, Duration.ofMinutes(10));
+
+            assertThat(actual).containsExactlyElementsOf(fileKeys.stream()
+                    .map(fileKey -> "https://example.com/" + fileKey)
+                    .toList());
         }
 
         private PresignedPutObjectRequest mockPresignedRequest(String url) throws MalformedURLException {
@@ -63,34 +100,140 @@ class FileClientTest {
 
         @Test
         void 문제가_생길_경우_서비스_에러_처리를_한다() {
-            String fileKey = "test-file-key.jpg";
             doThrow(SdkClientException.create("Presigned URL generation failed"))
                     .when(s3Presigner).presignPutObject(any(PutObjectPresignRequest.class));
 
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> fileClient.generateUploadPresignedUrl(fileKey, Duration.ofMinutes(10)));
+                    () -> fileClient.generateUploadPresignedUrls(List.of("test-file-key.jpg"), Duration.ofMinutes(10)));
 
             assertThat(exception.getErrorCode()).isEqualTo(BusinessErrorCode.PRESIGNED_URL_GENERATION_FAILED);
         }
     }
 
+    @Nested
+    class ListFiles {
+
+        @Test
+        void 접두사로_시작하는_파일들을_모든_페이지에서_조회한다() {
+            Instant lastModified = Instant.parse("2025-07-26T01:00:00Z");
+            ListObjectsV2Response firstPage = ListObjectsV2Response.builder()
+                    .contents(S3Object.builder().key("temp/1.png").lastModified(lastModified).build())
+                    .isTruncated(true)
+                    .nextContinuationToken("next")
+                    .build();
+            ListObjectsV2Response secondPage = ListObjectsV2Response.builder()
+                    .contents(S3Object.builder().key("temp/2.png").lastModified(lastModified).build())
+                    .isTruncated(false)
+                    .build();
+            doAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)))
+                    .when(s3Client).listObjectsV2Paginator(any(ListObjectsV2Request.class));
+            doReturn(firstPage, secondPage).when(s3Client).listObjectsV2(any(ListObjectsV2Request.class));
+
+            List<StoredFile> files = fileClient.listFiles("temp/").toList();
+
+            assertThat(files).containsExactly(
+                    new StoredFile("temp/1.png", lastModified),
+                    new StoredFile("temp/2.png", lastModified));
+        }
+    }
+
     @Nested
     class MoveTempFilesToPermanent {
 
         @Test
         void 임시_파일들을_영구_위치로_이동한다() {
-            String domainName = "cheer";
-            long domainId = 123L;
-            List<String> tempImageKeys = List.of("temp1.jpg", "temp2.jpg");
+            List<FileMove> fileMoves = List.of(
+                    new FileMove("temp/temp1.jpg", "cheer/123/temp1.jpg"),
+                    new FileMove("temp/temp2.jpg", "cheer/123/temp2.jpg"));
+            doReturn(CopyObjectResponse.builder().build()).when(s3Client).copyObject(any(CopyObjectRequest.class));
+            doReturn(DeleteObjectsResponse.builder().build()).when(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+
+            List<FileMoveResult> results = fileClient.moveTempFilesToPermanent(fileMoves);
+
+            assertAll(
+                    () -> assertThat(results).extracting(FileMoveResult::fileMove).containsExactlyElementsOf(fileMoves),
+                    () -> assertThat(results).extracting(FileMoveResult::status)
+                            .containsOnly(FileMoveResult.Status.MOVED),
+                    () -> assertThat(meterRegistry.get("file.move").timer().count()).isEqualTo(2)
+            );
+        }
+
+        @Test
+        void 같은_등록의_임시_파일들은_한_번의_요청으로_삭제한다() {
+            List<FileMove> fileMoves = List.of(
+                    new FileMove("temp/temp1.jpg", "cheer/123/temp1.jpg"),
+                    new FileMove("temp/temp2.jpg", "cheer/123/temp2.jpg"),
+                    new FileMove("temp/temp3.jpg", "story/45/temp3.jpg"));
+            doReturn(CopyObjectResponse.builder().build()).when(s3Client).copyObject(any(CopyObjectRequest.class));
+            doReturn(DeleteObjectsResponse.builder().build()).when(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+
+            fileClient.moveTempFilesToPermanent(fileMoves);
 
+            DistributionSummary s3Calls = meterRegistry.get("file.move.s3.calls").summary();
+            assertAll(
+                    () -> verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class)),
+                    () -> assertThat(s3Calls.count()).isEqualTo(2),
+                    () -> assertThat(s3Calls.totalAmount()).isEqualTo(5)
+            );
+        }
+
+        @Test
+        void 파일마다_이동_결과를_반환한다() {
+            FileMove movedFile = new FileMove("temp/temp1.jpg", "cheer/123/temp1.jpg");
+            FileMove failedFile = new FileMove("temp/temp2.jpg", "cheer/123/temp2.jpg");
             doReturn(CopyObjectResponse.builder().build()).when(s3Client).copyObject(any(CopyObjectRequest.class));
-            doReturn(DeleteObjectResponse.builder().build()).when(s3Client).deleteObject(any(DeleteObjectRequest.class));
+            doThrow(S3Exception.builder().statusCode(403).build())
+                    .when(s3Client).copyObject(argThat((CopyObjectRequest request) ->
+                            request.sourceKey().equals(failedFile.tempKey())));
+            doReturn(DeleteObjectsResponse.builder().build()).when(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+
+            List<FileMoveResult> results = fileClient.moveTempFilesToPermanent(List.of(movedFile, failedFile));
+
+            assertThat(results).containsExactly(
+                    new FileMoveResult(movedFile, FileMoveResult.Status.MOVED),
+                    new FileMoveResult(failedFile, FileMoveResult.Status.FAILED));
+        }
+
+        @Test
+        void 일시적인_오류는_재시도한다() {
+            FileMove fileMove = new FileMove("temp/temp1.jpg", "cheer/123/temp1.jpg");
+            doThrow(S3Exception.builder().statusCode(503).build())
+                    .doReturn(CopyObjectResponse.builder().build())
+                    .when(s3Client).copyObject(any(CopyObjectRequest.class));
+            doReturn(DeleteObjectsResponse.builder().build()).when(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+
+            List<FileMoveResult> results = fileClient.moveTempFilesToPermanent(List.of(fileMove));
+
+            assertAll(
+                    () -> assertThat(results).containsExactly(
+                            new FileMoveResult(fileMove, FileMoveResult.Status.MOVED)),
+                    () -> verify(s3Client, times(2)).copyObject(any(CopyObjectRequest.class))
+            );
+        }
+
+        @Test
+        void 임시_파일_삭제에만_실패하면_복사된_것으로_처리한다() {
+            FileMove fileMove = new FileMove("temp/temp1.jpg", "cheer/123/temp1.jpg");
+            doReturn(CopyObjectResponse.builder().build()).when(s3Client).copyObject(any(CopyObjectRequest.class));
+            DeleteObjectsResponse response = DeleteObjectsResponse.builder()
+                    .errors(S3Error.builder().key(fileMove.tempKey()).code("AccessDenied").build())
+                    .build();
+            doReturn(response).when(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
+
+            List<FileMoveResult> results = fileClient.moveTempFilesToPermanent(List.of(fileMove));
+
+            assertThat(results).containsExactly(new FileMoveResult(fileMove, FileMoveResult.Status.COPIED));
+        }
+
+        @Test
+        void 이미_이동된_파일은_이동에_성공한_것으로_처리한다() {
+            FileMove fileMove = new FileMove("temp/temp1.jpg", "cheer/123/temp1.jpg");
+            doThrow(NoSuchKeyException.builder().build()).when(s3Client).copyObject(any(CopyObjectRequest.class));
+            doReturn(HeadObjectResponse.builder().build()).when(s3Client).headObject(any(HeadObjectRequest.class));
 
-            List<String> result = fileClient.moveTempFilesToPermanent(domainName, domainId, tempImageKeys);
+            List<FileMoveResult> results = fileClient.moveTempFilesToPermanent(List.of(fileMove));
 
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0)).isEqualTo("cheer/123/temp1.jpg");
-            assertThat(result.get(1)).isEqualTo("cheer/123/temp2.jpg");
+            assertThat(results).containsExactly(new FileMoveResult(fileMove, FileMoveResult.Status.MOVED));
         }
     }
 }
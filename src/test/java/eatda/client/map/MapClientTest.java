@@ -1,6 +1,7 @@
 package eatda.client.map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
@@ -109,5 +110,56 @@ class MapClientTest {
 
             assertThat(results).isEmpty();
         }
+
+        @Test
+        void 공백만_다른_같은_검색어는_카카오_API를_한_번만_호출한다() {
+            String url = "https://dapi.kakao.com/v2/local/search/keyword.json";
+            String responseBody = """
+                    {
+                        "documents": [],
+                        "meta": {
+                            "is_end": true,
+                            "pageable_count": 0,
+                            "same_name": {
+                                "keyword": "석관동 떡볶이",
+                                "region": [],
+                                "selected_region": ""
+                            },
+                            "total_count": 0
+                        }
+                    }""";
+            setMockServer(HttpMethod.GET, url, responseBody);
+
+            List<MapClientStoreSearchResult> results1 = mapClient.searchStores("석관동 떡볶이");
+            List<MapClientStoreSearchResult> results2 = mapClient.searchStores("  석관동   떡볶이 ");
+
+            mockServer.verify();
+            assertThat(results2).isEqualTo(results1);
+        }
+
+        @Test
+        void 카카오_API에는_대소문자를_바꾸지_않은_검색어를_보낸다() {
+            String responseBody = """
+                    {
+                        "documents": [],
+                        "meta": {
+                            "is_end": true,
+                            "pageable_count": 0,
+                            "same_name": {
+                                "keyword": "BBQ 치킨",
+                                "region": [],
+                                "selected_region": ""
+                            },
+                            "total_count": 0
+                        }
+                    }""";
+            mockServer.expect(requestTo(startsWith("https://dapi.kakao.com/v2/local/search/keyword.json")))
+                    .andExpect(requestTo(containsString("query=BBQ")))
+                    .andRespond(MockRestResponseCreators.withSuccess(responseBody, MediaType.APPLICATION_JSON));
+
+            mapClient.searchStores("  BBQ 치킨 ");
+
+            mockServer.verify();
+        }
     }
 }
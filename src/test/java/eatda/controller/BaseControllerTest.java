@@ -1,10 +1,13 @@
 package eatda.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 import eatda.DatabaseCleaner;
+import eatda.QueryCounter;
 import eatda.client.file.FileClient;
 import eatda.client.map.MapClient;
 import eatda.client.map.MapClientStoreSearchResult;
@@ -26,6 +29,7 @@ import eatda.repository.cheer.CheerTagRepository;
 import eatda.repository.member.MemberRepository;
 import eatda.repository.store.StoreRepository;
 import eatda.repository.story.StoryRepository;
+import eatda.service.store.StoreFilterIndex;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.filter.Filter;
@@ -74,6 +78,12 @@ public class BaseControllerTest {
     @Autowired
     protected StoryImageGenerator storyImageGenerator;
 
+    @Autowired
+    protected StoreFilterIndex storeFilterIndex;
+
+    @Autowired
+    protected QueryCounter queryCounter;
+
     @Autowired
     protected MemberRepository memberRepository;
 
@@ -130,7 +140,10 @@ public class BaseControllerTest {
         );
         doReturn(searchResults).when(mapClient).searchStores(anyString());
 
-        doReturn(MOCKED_IMAGE_URL).when(fileClient).generateUploadPresignedUrl(anyString(), any());
+        doAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(key -> MOCKED_IMAGE_URL)
+                .toList())
+                .when(fileClient).generateUploadPresignedUrls(anyList(), any());
     }
 
     protected final RequestSpecification given() {
@@ -83,14 +83,14 @@ class CheerControllerTest extends BaseControllerTest {
             Cheer cheer2 = cheerGenerator.generateAdmin(member, store1, startAt.plusHours(1));
             Cheer cheer3 = cheerGenerator.generateAdmin(member, store2, startAt.plusHours(2));
 
-            CheersResponse response = given()
+            CheersResponse response = queryCounter.assertCount("GET /api/cheer", 4, () -> given()
                     .when()
                     .queryParam("page", 0)
                     .queryParam("size", 2)
                     .get("/api/cheer")
                     .then()
                     .statusCode(200)
-                    .extract().as(CheersResponse.class);
+                    .extract().as(CheersResponse.class));
 
             CheerPreviewResponse firstResponse = response.cheers().get(0);
             assertAll(
@@ -117,6 +117,7 @@ class CheerControllerTest extends BaseControllerTest {
             cheerTagGenerator.generate(cheer1, List.of(CheerTagName.INSTAGRAMMABLE, CheerTagName.CLEAN_RESTROOM));
             cheerTagGenerator.generate(cheer2, List.of(CheerTagName.INSTAGRAMMABLE));
             cheerTagGenerator.generate(cheer3, List.of(CheerTagName.CLEAN_RESTROOM));
+            storeFilterIndex.rebuild();
 
             CheersResponse response = given()
                     .when()
@@ -152,14 +153,15 @@ class CheerControllerTest extends BaseControllerTest {
                 int page = 0;
                 int size = 2;
 
-                CheersInStoreResponse response = given()
-                        .when()
-                        .queryParam("page", page)
-                        .queryParam("size", size)
-                        .get("/api/shops/{storeId}/cheers", store.getId())
-                        .then()
-                        .statusCode(200)
-                        .extract().as(CheersInStoreResponse.class);
+                CheersInStoreResponse response = queryCounter.assertCount("GET /api/shops/{storeId}/cheers", 2,
+                        () -> given()
+                                .when()
+                                .queryParam("page", page)
+                                .queryParam("size", size)
+                                .get("/api/shops/{storeId}/cheers", store.getId())
+                                .then()
+                                .statusCode(200)
+                                .extract().as(CheersInStoreResponse.class));
 
                 assertAll(
                         () -> assertThat(response.cheers()).hasSize(2),
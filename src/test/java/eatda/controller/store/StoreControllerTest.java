@@ -9,15 +9,20 @@ import eatda.domain.cheer.CheerTagName;
 import eatda.domain.member.Member;
 import eatda.domain.store.Store;
 import eatda.domain.store.StoreCategory;
+import eatda.service.store.PopularStoreRanking;
 import io.restassured.http.ContentType;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 
 class StoreControllerTest extends BaseControllerTest {
 
+    @Autowired
+    private PopularStoreRanking popularStoreRanking;
+
     @Nested
     class GetStore {
 
@@ -91,6 +96,7 @@ class StoreControllerTest extends BaseControllerTest {
             Cheer cheer3 = cheerGenerator.generateCommon(member, store3);
             cheerTagGenerator.generate(cheer1, List.of(CheerTagName.INSTAGRAMMABLE, CheerTagName.ENERGETIC));
             cheerTagGenerator.generate(cheer3, List.of(CheerTagName.INSTAGRAMMABLE, CheerTagName.CLEAN_RESTROOM));
+            storeFilterIndex.rebuild();
 
             StoresResponse response = given()
                     .queryParam("page", 0)
@@ -112,6 +118,36 @@ class StoreControllerTest extends BaseControllerTest {
         }
     }
 
+    @Nested
+    class GetPopularStores {
+
+        @Test
+        void 최근_응원이_많은_음식점_목록을_조회한다() {
+            Member member1 = memberGenerator.generateByEmail("111", "member1@kakao.com");
+            Member member2 = memberGenerator.generateByEmail("112", "member2@kakao.com");
+            Store store1 = storeGenerator.generate("113", "서울 강남구 대치동 896-33");
+            Store store2 = storeGenerator.generate("114", "서울 성북구 석관동 123-45");
+            cheerGenerator.generateCommon(member1, store1);
+            cheerGenerator.generateCommon(member1, store2);
+            cheerGenerator.generateCommon(member2, store2);
+            popularStoreRanking.rebuild();
+
+            StoresResponse response = given()
+                    .queryParam("size", 5)
+                    .when()
+                    .get("/api/shops/popular")
+                    .then()
+                    .statusCode(200)
+                    .extract().as(StoresResponse.class);
+
+            assertAll(
+                    () -> assertThat(response.stores()).hasSize(2),
+                    () -> assertThat(response.stores().get(0).id()).isEqualTo(store2.getId()),
+                    () -> assertThat(response.stores().get(1).id()).isEqualTo(store1.getId())
+            );
+        }
+    }
+
     @Nested
     class GetStoreImages {
 
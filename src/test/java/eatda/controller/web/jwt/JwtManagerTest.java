@@ -2,6 +2,7 @@ package eatda.controller.web.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import eatda.exception.BusinessErrorCode;
@@ -87,6 +88,32 @@ class JwtManagerTest {
 
             assertThat(exception.getErrorCode()).isEqualTo(BusinessErrorCode.UNAUTHORIZED_MEMBER);
         }
+
+        @Test
+        void 같은_액세스_토큰을_반복해서_해석할_수_있다() {
+            long id = 12345L;
+            String accessToken = jwtManager.issueAccessToken(id);
+
+            long firstId = jwtManager.resolveAccessToken(accessToken);
+            long secondId = jwtManager.resolveAccessToken(accessToken);
+
+            assertAll(
+                    () -> assertThat(firstId).isEqualTo(id),
+                    () -> assertThat(secondId).isEqualTo(id)
+            );
+        }
+
+        @Test
+        void 해석된_리프레시_토큰을_액세스_토큰으로_해석하면_에러가_발생한다() {
+            long id = 12345L;
+            String refreshToken = jwtManager.issueRefreshToken(id);
+            jwtManager.resolveRefreshToken(refreshToken);
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> jwtManager.resolveAccessToken(refreshToken));
+
+            assertThat(exception.getErrorCode()).isEqualTo(BusinessErrorCode.UNAUTHORIZED_MEMBER);
+        }
     }
 
     @Nested
@@ -166,7 +166,9 @@ public class CheerDocumentTest extends BaseDocumentTest {
                         parameterWithName("tag")
                                 .description("응원 태그 이름 0~N개(기본값: 전체) (ex. INSTAGRAMMABLE,ENERGETIC)").optional(),
                         parameterWithName("location")
-                                .description("음식점 지역 0~N개(기본값: 전체) (ex. GANGNAM,KONDAE)").optional()
+                                .description("음식점 지역 0~N개(기본값: 전체) (ex. GANGNAM,KONDAE)").optional(),
+                        parameterWithName("cursor")
+                                .description("이전 응답의 nextCursor (지정 시 page 대신 커서 기반으로 조회)").optional()
                 );
 
         RestDocsResponse responseDocument = response()
@@ -189,7 +191,9 @@ public class CheerDocumentTest extends BaseDocumentTest {
                         fieldWithPath("cheers[].cheerDescription").type(STRING).description("응원 내용"),
                         fieldWithPath("cheers[].tags").type(ARRAY).description("응원 태그 목록"),
                         fieldWithPath("cheers[].memberId").type(NUMBER).description("응원 작성자 회원 ID"),
-                        fieldWithPath("cheers[].memberNickname").type(STRING).description("응원 작성자 닉네임")
+                        fieldWithPath("cheers[].memberNickname").type(STRING).description("응원 작성자 닉네임"),
+                        fieldWithPath("nextCursor").type(STRING).description("다음 페이지 조회용 커서 (마지막 페이지면 null)")
+                                .optional()
                 );
 
         @Test
@@ -199,7 +203,7 @@ public class CheerDocumentTest extends BaseDocumentTest {
                             "너무 맛있어요!", List.of(CheerTagName.INSTAGRAMMABLE, CheerTagName.CLEAN_RESTROOM), 5L, "커찬"),
                     new CheerPreviewResponse(1L, Collections.emptyList(), "석관동떡볶이", "성북구", "석관동", "기타", 1L,
                             "너무 매워요! 하지만 맛있어요!", List.of(), 8L, "찬커")
-            ));
+            ), "MjAyNS0wNy0yNlQwMTowMF8x");
             doReturn(responses).when(cheerService).getCheers(any());
 
             var document = document("cheer/get-many", 200)
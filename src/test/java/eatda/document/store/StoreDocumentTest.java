@@ -113,7 +113,9 @@ public class StoreDocumentTest extends BaseDocumentTest {
                         parameterWithName("tag")
                                 .description("응원 태그 이름 0~N개(기본값: 전체) (ex. INSTAGRAMMABLE,ENERGETIC)").optional(),
                         parameterWithName("location")
-                                .description("음식점 지역 0~N개(기본값: 전체) (ex. GANGNAM,KONDAE)").optional()
+                                .description("음식점 지역 0~N개(기본값: 전체) (ex. GANGNAM,KONDAE)").optional(),
+                        parameterWithName("cursor")
+                                .description("이전 응답의 nextCursor (지정 시 page 대신 커서 기반으로 조회)").optional()
                 );
 
         RestDocsResponse responseDocument = response()
@@ -125,17 +127,20 @@ public class StoreDocumentTest extends BaseDocumentTest {
                         fieldWithPath("stores[].district").type(STRING).description("음식점 주소 (구)"),
                         fieldWithPath("stores[].neighborhood").type(STRING).description("음식점 주소 (동)"),
                         fieldWithPath("stores[].category").type(STRING).description("음식점 카테고리"),
-                        fieldWithPath("stores[].cheerDescriptions").type(ARRAY).description("음식점에 달린 응원 메시지")
+                        fieldWithPath("stores[].cheerCount").type(NUMBER).description("음식점 응원 횟수"),
+                        fieldWithPath("stores[].cheerDescriptions").type(ARRAY).description("음식점에 달린 응원 메시지"),
+                        fieldWithPath("nextCursor").type(STRING).description("다음 페이지 조회용 커서 (마지막 페이지면 null)")
+                                .optional()
                 );
 
         @Test
         void 음식점_목록_최신순으로_조회() {
             StoresResponse response = new StoresResponse(List.of(
-                    new StorePreviewResponse(2L, "https://example.image", "농민백암순대", "강남구", "대치동", "한식",
+                    new StorePreviewResponse(2L, "https://example.image", "농민백암순대", "강남구", "대치동", "한식", 2L,
                             List.of("응원해요!", "순대가 맛돌이!")),
-                    new StorePreviewResponse(1L, "https://example.image", "석관동떡볶이", "성북구", "석관동", "한식",
+                    new StorePreviewResponse(1L, "https://example.image", "석관동떡볶이", "성북구", "석관동", "한식", 3L,
                             List.of("응원해요!", "떡볶이가 맛있게 매워요~", "매운 떡볶이 최고!"))
-            ));
+            ), "MjAyNS0wNy0yNlQwMTowMF8x");
             doReturn(response).when(storeService).getStores(any());
 
             var document = document("store/get", 200)
@@ -176,6 +181,60 @@ public class StoreDocumentTest extends BaseDocumentTest {
         }
     }
 
+    @Nested
+    class GetPopularStores {
+
+        RestDocsRequest requestDocument = request()
+                .tag(Tag.STORE_API)
+                .summary("인기 음식점 목록 조회")
+                .description("최근 응원이 많은 순서로 음식점을 조회합니다.")
+                .queryParameter(
+                        parameterWithName("size").description("조회할 음식점 개수 (기본 값 5, 최소 1, 최대 50)").optional(),
+                        parameterWithName("category")
+                                .description("음식점 카테고리 0~1개(기본값: 전체) (ex. KOREAN)").optional(),
+                        parameterWithName("location")
+                                .description("음식점 지역 0~N개(기본값: 전체) (ex. GANGNAM,KONDAE)").optional()
+                );
+
+        RestDocsResponse responseDocument = response()
+                .responseBodyField(
+                        fieldWithPath("stores").type(ARRAY).description("인기 음식점 목록"),
+                        fieldWithPath("stores[].id").type(NUMBER).description("음식점 ID"),
+                        fieldWithPath("stores[].imageUrl").type(STRING).description("음식점 대표 이미지 URL"),
+                        fieldWithPath("stores[].name").type(STRING).description("음식점 이름"),
+                        fieldWithPath("stores[].district").type(STRING).description("음식점 주소 (구)"),
+                        fieldWithPath("stores[].neighborhood").type(STRING).description("음식점 주소 (동)"),
+                        fieldWithPath("stores[].category").type(STRING).description("음식점 카테고리"),
+                        fieldWithPath("stores[].cheerCount").type(NUMBER).description("음식점 응원 횟수"),
+                        fieldWithPath("stores[].cheerDescriptions").type(ARRAY).description("음식점에 달린 응원 메시지"),
+                        fieldWithPath("nextCursor").type(STRING).description("항상 null").optional()
+                );
+
+        @Test
+        void 인기_음식점_목록_조회() {
+            StoresResponse response = new StoresResponse(List.of(
+                    new StorePreviewResponse(1L, "https://example.image", "석관동떡볶이", "성북구", "석관동", "한식", 3L,
+                            List.of("응원해요!", "떡볶이가 맛있게 매워요~", "매운 떡볶이 최고!")),
+                    new StorePreviewResponse(2L, "https://example.image", "농민백암순대", "강남구", "대치동", "한식", 2L,
+                            List.of("응원해요!", "순대가 맛돌이!"))
+            ), null);
+            doReturn(response).when(storeService).getPopularStores(any());
+
+            var document = document("store/get-popular", 200)
+                    .request(requestDocument)
+                    .response(responseDocument)
+                    .build();
+
+            given(document)
+                    .contentType(ContentType.JSON)
+                    .queryParam("size", 2)
+                    .queryParam("category", StoreCategory.KOREAN)
+                    .queryParam("location", SearchDistrict.GANGNAM, SearchDistrict.MYEONGDONG)
+                    .when().get("/api/shops/popular")
+                    .then().statusCode(200);
+        }
+    }
+
     @Nested
     class GetStoreImages {
 
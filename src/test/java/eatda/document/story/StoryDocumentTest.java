@@ -114,7 +114,8 @@ public class StoryDocumentTest extends BaseDocumentTest {
                 .summary("스토리 목록 조회")
                 .description("스토리 목록을 페이지네이션하여 조회합니다.")
                 .queryParameter(
-                        parameterWithName("size").description("스토리 개수 (기본값: 5) (최소값: 1, 최대값: 50)").optional()
+                        parameterWithName("size").description("스토리 개수 (기본값: 5) (최소값: 1, 최대값: 50)").optional(),
+                        parameterWithName("cursor").description("이전 응답의 nextCursor (미지정 시 처음부터 조회)").optional()
                 );
 
         RestDocsResponse responseDocument = response()
@@ -126,7 +127,9 @@ public class StoryDocumentTest extends BaseDocumentTest {
                         fieldWithPath("stories[].images[].orderIndex").type(JsonFieldType.NUMBER).description("이미지 노출 순서"),
                         fieldWithPath("stories[].images[].contentType").type(JsonFieldType.STRING).description("이미지 MIME 타입"),
                         fieldWithPath("stories[].images[].fileSize").type(JsonFieldType.NUMBER).description("이미지 파일 크기 (byte)"),
-                        fieldWithPath("stories[].images[].url").type(JsonFieldType.STRING).description("이미지 CDN URL")
+                        fieldWithPath("stories[].images[].url").type(JsonFieldType.STRING).description("이미지 CDN URL"),
+                        fieldWithPath("nextCursor").type(JsonFieldType.STRING)
+                                .description("다음 페이지 조회용 커서 (마지막 페이지면 null)").optional()
                 );
 
         @Test
@@ -141,8 +144,8 @@ public class StoryDocumentTest extends BaseDocumentTest {
                             2L,
                             List.of(new StoryImageResponse("2.png", 1, "image/png", 67890L, "https://cdn.test/2.png"))
                     )
-            ));
-            doReturn(response).when(storyService).getPagedStoryPreviews(size);
+            ), "MjAyNS0wNy0yNlQwMTowMF8y");
+            doReturn(response).when(storyService).getPagedStoryPreviews(null, size);
 
             var document = document("story/get-stories", 200)
                     .request(requestDocument)
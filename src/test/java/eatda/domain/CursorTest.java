@@ -0,0 +1,36 @@
+package eatda.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import eatda.exception.BusinessErrorCode;
+import eatda.exception.BusinessException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CursorTest {
+
+    @Nested
+    class Decode {
+
+        @Test
+        void 인코딩한_커서를_다시_해석할_수_있다() {
+            Cursor cursor = new Cursor(LocalDateTime.of(2025, 7, 26, 1, 0, 0, 123_456_000), 42L);
+
+            Cursor actual = Cursor.decode(cursor.encode());
+
+            assertThat(actual).isEqualTo(cursor);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "invalid-cursor", "MjAyNS0wNy0yNlQwMTowMA", "bm90LWEtZGF0ZV8x"})
+        void 잘못된_커서는_예외를_던진다(String value) {
+            BusinessException exception = assertThrows(BusinessException.class, () -> Cursor.decode(value));
+
+            assertThat(exception.getErrorCode()).isEqualTo(BusinessErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package eatda.domain.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ImageMoveTaskTest {
+
+    @Nested
+    class RetryLater {
+
+        @Test
+        void 실패할수록_다음_시도_시각을_늦춘다() {
+            ImageMoveTask task = new ImageMoveTask("temp/1.png", "cheer/1/1.png");
+            LocalDateTime now = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+
+            task.retryLater(now);
+            LocalDateTime firstRetryAt = task.getNextAttemptAt();
+            task.retryLater(now);
+            LocalDateTime secondRetryAt = task.getNextAttemptAt();
+
+            assertAll(
+                    () -> assertThat(task.getStatus()).isEqualTo(ImageMoveStatus.PENDING),
+                    () -> assertThat(task.getAttemptCount()).isEqualTo(2),
+                    () -> assertThat(firstRetryAt).isEqualTo(now.plusSeconds(10)),
+                    () -> assertThat(secondRetryAt).isEqualTo(now.plusSeconds(20))
+            );
+        }
+
+        @Test
+        void 최대_시도_횟수를_넘기면_실패_상태가_된다() {
+            ImageMoveTask task = new ImageMoveTask("temp/1.png", "cheer/1/1.png");
+            LocalDateTime now = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+
+            IntStream.range(0, 5).forEach(i -> task.retryLater(now));
+
+            assertThat(task.getStatus()).isEqualTo(ImageMoveStatus.FAILED);
+        }
+    }
+}
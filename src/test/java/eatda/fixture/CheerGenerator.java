@@ -4,6 +4,7 @@ import eatda.domain.cheer.Cheer;
 import eatda.domain.member.Member;
 import eatda.domain.store.Store;
 import eatda.repository.cheer.CheerRepository;
+import eatda.repository.store.StoreRepository;
 import eatda.util.DomainUtils;
 import java.time.LocalDateTime;
 import org.springframework.stereotype.Component;
@@ -14,15 +15,17 @@ public class CheerGenerator {
     private static final String DEFAULT_DESCRIPTION = "응원합니다!";
 
     private final CheerRepository cheerRepository;
+    private final StoreRepository storeRepository;
 
-    public CheerGenerator(CheerRepository cheerRepository) {
+    public CheerGenerator(CheerRepository cheerRepository, StoreRepository storeRepository) {
         this.cheerRepository = cheerRepository;
+        this.storeRepository = storeRepository;
     }
 
     public Cheer generateAdmin(Member member, Store store, LocalDateTime createdAt) {
         Cheer cheer = new Cheer(member, store, DEFAULT_DESCRIPTION, true);
         DomainUtils.setCreatedAt(cheer, createdAt);
-        return cheerRepository.save(cheer);
+        return save(cheer);
     }
 
     public Cheer generateCommon(Member member, Store store) {
@@ -37,12 +40,18 @@ public class CheerGenerator {
 
     public Cheer generateCommon(Member member, Store store, boolean isAdmin, String description) {
         Cheer cheer = new Cheer(member, store, description, isAdmin);
-        return cheerRepository.save(cheer);
+        return save(cheer);
     }
 
     public Cheer generate(Member member, Store store, LocalDateTime createdAt) {
         Cheer cheer = new Cheer(member, store, DEFAULT_DESCRIPTION, false);
         DomainUtils.setCreatedAt(cheer, createdAt);
-        return cheerRepository.save(cheer);
+        return save(cheer);
+    }
+
+    private Cheer save(Cheer cheer) {
+        Cheer savedCheer = cheerRepository.save(cheer);
+        storeRepository.increaseCheerCount(cheer.getStore().getId());
+        return savedCheer;
     }
 }
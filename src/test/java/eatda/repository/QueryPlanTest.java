@@ -0,0 +1,252 @@
+package eatda.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import eatda.domain.cheer.CheerTagName;
+import eatda.domain.member.Member;
+import eatda.domain.store.District;
+import eatda.domain.store.Store;
+import eatda.domain.store.StoreCategory;
+import eatda.repository.cheer.CheerImageRepository;
+import eatda.repository.image.ImageMoveTaskRepository;
+import eatda.repository.story.StoryImageRepository;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+
+// 실행 계획을 확인하지 않는 쿼리
+// - 필터 없는 최신순 목록(음식점·응원 findAllByConditions, StoryRepository.findAllByOrderByCreatedAtDescIdDesc)과
+//   커서 목록(findAllByConditions 커서 버전, StoryRepository.findAllByCursor):
+//   MySQL 은 idx_*_created_at_id 를 역방향으로 읽지만 H2 는 내림차순 정렬과 OR 커서 조건에 인덱스를 쓰지 않아 계획이 달라진다
+// - MemberRepository.existsByNickname, existsByMobilePhoneNumberValue:
+//   회원 가입과 정보 수정 때만 실행되는 중복 확인이라 인덱스를 두지 않는다
+class QueryPlanTest extends BaseRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CheerImageRepository cheerImageRepository;
+
+    @Autowired
+    private StoryImageRepository storyImageRepository;
+
+    @Autowired
+    private ImageMoveTaskRepository imageMoveTaskRepository;
+
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    @Test
+    void 음식점_응원_목록_조회는_음식점_응원_인덱스를_사용한다() {
+        assertPlansUseIndex("idx_cheer_store_id_created_at",
+                () -> cheerRepository.findAllInStoreByStoreId(1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void 회원의_음식점_응원_여부_조회는_회원_음식점_인덱스를_사용한다() {
+        Member member = memberGenerator.generate("111");
+
+        assertPlansUseIndex("idx_cheer_member_id_store_id",
+                () -> cheerRepository.existsByMemberAndStoreKakaoId(member, "222"));
+    }
+
+    @Test
+    void 음식점_스토리_목록_조회는_음식점_스토리_인덱스를_사용한다() {
+        assertPlansUseIndex("idx_story_store_kakao_id_created_at",
+                () -> storyRepository.findAllByStoreKakaoIdOrderByCreatedAtDesc("222", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void 회원_스토리_목록_조회는_회원_스토리_인덱스를_사용한다() {
+        assertPlansUseIndex("idx_story_member_id_created_at",
+                () -> storyRepository.findAllByMemberIdOrderByCreatedAtDesc(1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void 지역과_카테고리로_음식점을_조회하면_지역_카테고리_인덱스를_사용한다() {
+        assertPlansUseIndex("idx_store_district_category_created_at",
+                () -> storeRepository.findAllByConditions(StoreCategory.KOREAN, List.of(),
+                        List.of(District.GANGNAM, District.MAPO), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void 응원_이미지_조회는_응원_이미지_인덱스를_사용한다() {
+        assertPlansUseIndex("idx_cheer_image_cheer_id_created_at",
+                () -> cheerImageRepository.findAllByCheer_IdInOrderByOrderIndexAsc(List.of(1L, 2L)));
+    }
+
+    @Test
+    void 태그로_응원을_조회하면_태그_인덱스를_사용한다() {
+        assertPlansUseIndex("idx_cheer_tag_name_cheer_id",
+                () -> cheerRepository.findAllByConditions(null, List.of(CheerTagName.QUIET),
+                        List.of(District.GANGNAM), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void 음식점_쿼리는_테이블_전체를_읽지_않는다() {
+        Member member = memberGenerator.generate("111");
+
+        assertPlansDoNotScanTable(
+                () -> storeRepository.findById(1L),
+                () -> storeRepository.findByKakaoId("222"),
+                () -> storeRepository.findAllByCheeredMemberId(member.getId()),
+                () -> storeRepository.increaseCheerCount(1L),
+                () -> storeRepository.findAllByConditions(null, List.of(CheerTagName.QUIET),
+                        List.of(District.GANGNAM), PageRequest.of(0, 10)),
+                () -> storeRepository.findAllFilterKeysAfter(0L),
+                () -> storeRepository.findAllByIdIn(List.of(1L, 2L))
+        );
+    }
+
+    @Test
+    void 응원_쿼리는_테이블_전체를_읽지_않는다() {
+        Member member = memberGenerator.generate("111");
+
+        assertPlansDoNotScanTable(
+                () -> cheerRepository.findAllByConditions(StoreCategory.KOREAN, List.of(),
+                        List.of(District.GANGNAM), PageRequest.of(0, 10)),
+                () -> cheerRepository.findAllWithStoreAndMemberByIdIn(List.of(1L, 2L)),
+                () -> cheerRepository.findAllDescriptionsByStoreIdIn(List.of(1L, 2L)),
+                () -> cheerRepository.findAllStoreCheersSince(LocalDateTime.now().minusDays(1)),
+                () -> cheerRepository.findAllFilterKeysAfter(0L),
+                () -> cheerRepository.countByMember(member)
+        );
+    }
+
+    @Test
+    void 응원_태그_쿼리는_테이블_전체를_읽지_않는다() {
+        assertPlansDoNotScanTable(
+                () -> cheerTagRepository.countAllByStoreId(1L),
+                () -> cheerTagRepository.findAllTagKeysByCheerIdAfter(0L),
+                () -> cheerTagRepository.findAllTagKeysByCheerIdIn(List.of(1L, 2L))
+        );
+    }
+
+    @Test
+    void 응원_이미지_쿼리는_테이블_전체를_읽지_않는다() {
+        Store store = storeGenerator.generate("222", "서울시 강남구 역삼동 123-45");
+
+        assertPlansDoNotScanTable(
+                () -> cheerImageRepository.findAllByCheer_StoreOrderByOrderIndexAsc(store),
+                () -> cheerImageRepository.findStoreIdsByImageKeyIn(List.of("temp/1.jpg")),
+                () -> cheerImageRepository.findLatestImageKeysByStoreIds(List.of(1L, 2L)),
+                () -> cheerImageRepository.updateImageKeys(Map.of("temp/1.jpg", "cheer/1.jpg"))
+        );
+    }
+
+    @Test
+    void 스토리_쿼리는_테이블_전체를_읽지_않는다() {
+        assertPlansDoNotScanTable(
+                () -> storyRepository.updateStoreIdByStoreKakaoId("222", 1L),
+                () -> storyImageRepository.findAllByStory_IdInOrderByOrderIndexAsc(List.of(1L, 2L)),
+                () -> storyImageRepository.findFirstByStory_IdOrderByCreatedAtDesc(1L),
+                () -> storyImageRepository.updateImageKeys(Map.of("temp/1.jpg", "story/1.jpg"))
+        );
+    }
+
+    @Test
+    void 회원과_이미지_이동_작업_쿼리는_테이블_전체를_읽지_않는다() {
+        assertPlansDoNotScanTable(
+                () -> memberRepository.findById(1L),
+                () -> memberRepository.findBySocialId("111"),
+                () -> imageMoveTaskRepository.findDueTasks(LocalDateTime.now(), 10),
+                () -> imageMoveTaskRepository.findTempKeysByTempKeyIn(List.of("temp/1.jpg"))
+        );
+    }
+
+    private void assertPlansUseIndex(String indexName, Runnable query) {
+        List<String> plans = explainAll(query);
+
+        assertThat(plans).allSatisfy(plan -> assertThat(plan)
+                .containsIgnoringCase(indexName)
+                .doesNotContainIgnoringCase("tableScan"));
+    }
+
+    private void assertPlansDoNotScanTable(Runnable... queries) {
+        for (Runnable query : queries) {
+            List<String> plans = explainAll(query);
+
+            assertThat(plans).allSatisfy(plan -> assertThat(plan).doesNotContainIgnoringCase("tableScan"));
+        }
+    }
+
+    // Hibernate 가 실제로 실행한 SELECT, UPDATE 문마다 실행 계획을 구한다
+    private List<String> explainAll(Runnable query) {
+        sqlRecorder.clear();
+        query.run();
+        List<String> statements = sqlRecorder.getQueryStatements();
+
+        assertThat(statements).isNotEmpty();
+        return statements.stream()
+                .map(this::explain)
+                .toList();
+    }
+
+    // 실행 계획은 준비 단계에서 정해지므로 파라미터는 모두 NULL 로 바인딩한다
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                long parameterCount = sql.chars().filter(ch -> ch == '?').count();
+                for (int index = 1; index <= parameterCount; index++) {
+                    statement.setNull(index, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    static class SqlRecorder implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        public void clear() {
+            statements.clear();
+        }
+
+        public List<String> getQueryStatements() {
+            return statements.stream()
+                    .map(String::stripLeading)
+                    .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6)
+                            || sql.regionMatches(true, 0, "update", 0, 6))
+                    .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class SqlRecorderConfig {
+
+        @Bean
+        public SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer sqlRecorderCustomizer(SqlRecorder sqlRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlRecorder);
+        }
+    }
+}
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 class StoreRepositoryTest extends BaseRepositoryTest {
 
@@ -94,6 +97,33 @@ class StoreRepositoryTest extends BaseRepositoryTest {
                     .containsExactlyInAnyOrder(store1.getId(), store2.getId());
         }
 
+        @Test
+        void 응원이_여러_개인_가게가_있어도_요청한_페이지_크기만큼_조회한다() {
+            Member member1 = memberGenerator.generateRegisteredMember("커찬", "ac@kakao.com", "123", "01012341235");
+            Member member2 = memberGenerator.generateRegisteredMember("지민", "ad@kakao.com", "124", "01012341236");
+            LocalDateTime startAt = LocalDateTime.of(2023, 10, 1, 12, 0);
+            Store store1 = storeGenerator.generate("1235", "서울시 강남구 역삼동 123-45", StoreCategory.KOREAN, startAt);
+            Store store2 = storeGenerator.generate("1236", "서울시 강남구 역삼동 123-45", StoreCategory.KOREAN,
+                    startAt.plusHours(1));
+            Store store3 = storeGenerator.generate("1237", "서울시 강남구 역삼동 123-45", StoreCategory.KOREAN,
+                    startAt.plusHours(2));
+            Cheer cheer2_1 = cheerGenerator.generate(member1, store2, startAt);
+            Cheer cheer2_2 = cheerGenerator.generate(member2, store2, startAt);
+            Cheer cheer3_1 = cheerGenerator.generate(member1, store3, startAt);
+            Cheer cheer1_1 = cheerGenerator.generate(member1, store1, startAt);
+            cheerTagGenerator.generate(cheer2_1, List.of(CheerTagName.CLEAN_RESTROOM, CheerTagName.ENERGETIC));
+            cheerTagGenerator.generate(cheer2_2, List.of(CheerTagName.CLEAN_RESTROOM));
+            cheerTagGenerator.generate(cheer3_1, List.of(CheerTagName.CLEAN_RESTROOM));
+            cheerTagGenerator.generate(cheer1_1, List.of(CheerTagName.CLEAN_RESTROOM));
+
+            List<Store> actual = storeRepository.findAllByConditions(null,
+                    List.of(CheerTagName.CLEAN_RESTROOM, CheerTagName.ENERGETIC), List.of(),
+                    PageRequest.of(0, 2, Sort.by(Direction.DESC, "createdAt")));
+
+            assertThat(actual).map(Store::getId)
+                    .containsExactly(store3.getId(), store2.getId());
+        }
+
         @Test
         void 지역구를_필터링하여_조회할_수_있다() {
             Store store1 = storeGenerator.generate("1235", "서울시 강남구 역삼동 123-45", District.GANGNAM);
@@ -1,6 +1,7 @@
 package eatda.service;
 
 import eatda.DatabaseCleaner;
+import eatda.QueryCounter;
 import eatda.client.file.FileClient;
 import eatda.client.map.MapClient;
 import eatda.client.oauth.OauthClient;
@@ -18,6 +19,7 @@ import eatda.repository.store.StoreRepository;
 import eatda.repository.story.StoryRepository;
 import eatda.service.auth.AuthService;
 import eatda.service.auth.OauthService;
+import eatda.service.store.StoreFilterIndex;
 import eatda.service.store.StoreSearchService;
 import eatda.service.story.StoryService;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -88,4 +90,10 @@ public abstract class BaseServiceTest {
     @Autowired
     protected StoryRepository storyRepository;
 
+    @Autowired
+    protected StoreFilterIndex storeFilterIndex;
+
+    @Autowired
+    protected QueryCounter queryCounter;
+
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import eatda.controller.cheer.CheerImageResponse;
+import eatda.controller.cheer.CheerPreviewResponse;
 import eatda.controller.cheer.CheerRegisterRequest;
 import eatda.controller.cheer.CheerResponse;
 import eatda.controller.cheer.CheerSearchParameters;
@@ -119,15 +120,38 @@ class CheerServiceTest extends BaseServiceTest {
 
             CheerResponse response = cheerService.registerCheer(request, result, member.getId(), ImageDomain.CHEER);
 
+            Store foundStore = storeRepository.getById(store.getId());
             assertAll(
                     () -> assertThat(response.storeId()).isEqualTo(store.getId()),
                     () -> assertThat(response.cheerDescription()).isEqualTo("맛있어요!"),
                     () -> assertThat(cheerRepository.count()).isEqualTo(1),
+                    () -> assertThat(foundStore.getCheerCount()).isEqualTo(1),
                     () -> assertThat(response.tags()).containsExactlyInAnyOrder(
                             CheerTagName.GOOD_FOR_DATING, CheerTagName.CLEAN_RESTROOM)
             );
         }
 
+        @Test
+        void 검색_단계에서_찾은_가게가_있으면_해당_가게에_응원을_저장한다() {
+            Member member = memberGenerator.generate("123");
+            Store store = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+
+            CheerRegisterRequest request = new CheerRegisterRequest("123", "농민백암순대 본점", "맛있어요!",
+                    List.of(),
+                    List.of(CheerTagName.GOOD_FOR_DATING));
+            StoreSearchResult result = StoreSearchResult.from(store);
+
+            CheerResponse response = cheerService.registerCheer(request, result, member.getId(), ImageDomain.CHEER);
+
+            Store foundStore = storeRepository.getById(store.getId());
+            assertAll(
+                    () -> assertThat(response.storeId()).isEqualTo(store.getId()),
+                    () -> assertThat(storeRepository.count()).isEqualTo(1),
+                    () -> assertThat(cheerRepository.count()).isEqualTo(1),
+                    () -> assertThat(foundStore.getCheerCount()).isEqualTo(1)
+            );
+        }
+
         @Test
         void 해당_응원의_이미지가_비어있어도_응원을_저장할_수_있다() {
             Member member = memberGenerator.generate("123");
@@ -211,6 +235,31 @@ class CheerServiceTest extends BaseServiceTest {
             );
         }
 
+        @Test
+        void 커서_이후의_응원을_최신순으로_반환한다() {
+            Member member = memberGenerator.generate("123");
+            Store store1 = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+            Store store2 = storeGenerator.generate("456", "서울시 성북구 석관동 123-45");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            Cheer cheer1 = cheerGenerator.generateAdmin(member, store1, startAt);
+            Cheer cheer2 = cheerGenerator.generateAdmin(member, store1, startAt.plusHours(1));
+            Cheer cheer3 = cheerGenerator.generateAdmin(member, store2, startAt.plusHours(2));
+            CheerSearchParameters firstParameters = new CheerSearchParameters(0, 2, null, null, null);
+
+            CheersResponse firstPage = cheerService.getCheers(firstParameters);
+            CheerSearchParameters nextParameters = new CheerSearchParameters(
+                    0, 2, null, null, null, firstPage.nextCursor());
+            CheersResponse secondPage = cheerService.getCheers(nextParameters);
+
+            assertAll(
+                    () -> assertThat(firstPage.cheers()).extracting(CheerPreviewResponse::cheerId)
+                            .containsExactly(cheer3.getId(), cheer2.getId()),
+                    () -> assertThat(secondPage.cheers()).extracting(CheerPreviewResponse::cheerId)
+                            .containsExactly(cheer1.getId()),
+                    () -> assertThat(secondPage.nextCursor()).isNull()
+            );
+        }
+
         @Test
         void 이미지가_포함된_응원_목록을_조회할_수_있다() {
             Member member = memberGenerator.generate("123");
@@ -227,6 +276,30 @@ class CheerServiceTest extends BaseServiceTest {
                     .isSortedAccordingTo(Comparator.comparingLong(CheerImageResponse::orderIndex));
         }
 
+        @Test
+        void 응원_목록은_페이지_크기와_무관하게_고정된_수의_쿼리로_조회한다() {
+            Member member = memberGenerator.generate("123");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            for (int i = 0; i < 5; i++) {
+                Store store = storeGenerator.generate(String.valueOf(i), "서울시 강남구 역삼동 123-45");
+                Cheer cheer = cheerGenerator.generateCommon(member, store, startAt.plusHours(i));
+                cheerTagGenerator.generate(cheer, List.of(CheerTagName.INSTAGRAMMABLE, CheerTagName.QUIET));
+                cheerImageGenerator.generate(cheer, "key" + i, 1L);
+            }
+
+            // 응원 ID 페이지, 가게/회원, 태그, 이미지
+            CheersResponse smallPage = queryCounter.assertCount("CheerService.getCheers(size=2)", 4,
+                    () -> cheerService.getCheers(new CheerSearchParameters(0, 2, null, null, null)));
+            CheersResponse largePage = queryCounter.assertCount("CheerService.getCheers(size=5)", 4,
+                    () -> cheerService.getCheers(new CheerSearchParameters(0, 5, null, null, null)));
+
+            assertAll(
+                    () -> assertThat(smallPage.cheers()).hasSize(2),
+                    () -> assertThat(largePage.cheers()).hasSize(5)
+                            .allSatisfy(cheer -> assertThat(cheer.tags()).hasSize(2))
+            );
+        }
+
         @Test
         void 요청한_응원을_지역으로_필터링하여_최신순으로_반환한다() {
             Member member = memberGenerator.generate("123");
@@ -236,6 +309,7 @@ class CheerServiceTest extends BaseServiceTest {
             Cheer cheer1 = cheerGenerator.generateAdmin(member, store1, startAt);
             Cheer cheer2 = cheerGenerator.generateAdmin(member, store1, startAt.plusHours(1));
             Cheer cheer3 = cheerGenerator.generateAdmin(member, store2, startAt.plusHours(2));
+            storeFilterIndex.rebuild();
             CheerSearchParameters parameters = new CheerSearchParameters(
                     0, 2, null, null, List.of(SearchDistrict.GANGNAM));
 
@@ -269,5 +343,55 @@ class CheerServiceTest extends BaseServiceTest {
                     () -> assertThat(response.cheers().get(0).id()).isEqualTo(cheer1.getId())
             );
         }
+
+        @Test
+        void 가게의_응원에_작성자와_태그가_포함된다() {
+            Member member = memberGenerator.generate("123");
+            Store store = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+            Cheer cheer = cheerGenerator.generateCommon(member, store);
+            cheerTagGenerator.generate(cheer, List.of(CheerTagName.INSTAGRAMMABLE, CheerTagName.QUIET));
+
+            CheersInStoreResponse response = cheerService.getCheersByStoreId(store.getId(), 0, 10);
+
+            assertAll(
+                    () -> assertThat(response.cheers()).hasSize(1),
+                    () -> assertThat(response.cheers().get(0).memberId()).isEqualTo(member.getId()),
+                    () -> assertThat(response.cheers().get(0).memberNickname()).isEqualTo(member.getNickname()),
+                    () -> assertThat(response.cheers().get(0).tags())
+                            .containsExactly(CheerTagName.INSTAGRAMMABLE, CheerTagName.QUIET)
+            );
+        }
+
+        @Test
+        void 가게의_응원_페이지는_응원_쿼리와_태그_쿼리로_조회한다() {
+            Member member = memberGenerator.generate("123");
+            Store store = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            for (int i = 0; i < 3; i++) {
+                Cheer cheer = cheerGenerator.generateCommon(member, store, startAt.plusHours(i));
+                cheerTagGenerator.generate(cheer, List.of(CheerTagName.INSTAGRAMMABLE));
+            }
+
+            CheersInStoreResponse response = queryCounter.assertCount("CheerService.getCheersByStoreId", 2,
+                    () -> cheerService.getCheersByStoreId(store.getId(), 0, 3));
+
+            assertThat(response.cheers()).hasSize(3);
+        }
+
+        @Test
+        void 응원이_없는_가게는_빈_목록을_반환한다() {
+            Store store = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+
+            CheersInStoreResponse response = cheerService.getCheersByStoreId(store.getId(), 0, 10);
+
+            assertThat(response.cheers()).isEmpty();
+        }
+
+        @Test
+        void 존재하지_않는_가게의_응원을_조회하면_예외가_발생한다() {
+            assertThatThrownBy(() -> cheerService.getCheersByStoreId(999L, 0, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining(BusinessErrorCode.STORE_NOT_FOUND.getMessage());
+        }
     }
 }
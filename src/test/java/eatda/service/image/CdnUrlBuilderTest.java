@@ -0,0 +1,29 @@
+package eatda.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CdnUrlBuilderTest {
+
+    private final CdnUrlBuilder cdnUrlBuilder = new CdnUrlBuilder("cdn.eatda.net");
+
+    @Nested
+    class Build {
+
+        @Test
+        void 이미지_키로_CDN_URL을_만든다() {
+            String url = cdnUrlBuilder.build("cheer/1/image.png");
+
+            assertThat(url).isEqualTo("https://cdn.eatda.net/cheer/1/image.png");
+        }
+
+        @Test
+        void 크기_변형_접미사를_붙일_수_있다() {
+            String url = cdnUrlBuilder.build("cheer/1/image.png", "?w=320");
+
+            assertThat(url).isEqualTo("https://cdn.eatda.net/cheer/1/image.png?w=320");
+        }
+    }
+}
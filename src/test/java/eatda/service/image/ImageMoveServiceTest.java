@@ -0,0 +1,210 @@
+package eatda.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import eatda.client.file.FileMove;
+import eatda.client.file.FileMoveResult;
+import eatda.config.CacheConfig;
+import eatda.controller.cheer.CheerRegisterRequest;
+import eatda.controller.store.ImagesResponse;
+import eatda.domain.ImageDomain;
+import eatda.domain.cheer.CheerImage;
+import eatda.domain.cheer.CheerTagName;
+import eatda.domain.image.ImageMoveStatus;
+import eatda.domain.image.ImageMoveTask;
+import eatda.domain.member.Member;
+import eatda.domain.store.District;
+import eatda.domain.store.StoreCategory;
+import eatda.domain.store.StoreSearchResult;
+import eatda.repository.cheer.CheerImageRepository;
+import eatda.repository.image.ImageMoveTaskRepository;
+import eatda.service.BaseServiceTest;
+import eatda.service.cheer.CheerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageMoveServiceTest extends BaseServiceTest {
+
+    @Autowired
+    private ImageMoveService imageMoveService;
+
+    @Autowired
+    private ImageMoveTaskRepository imageMoveTaskRepository;
+
+    @Autowired
+    private CheerService cheerService;
+
+    @Autowired
+    private CheerImageRepository cheerImageRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private long registerCheerWithImages(String... tempKeys) {
+        Member member = memberGenerator.generate("123");
+        List<CheerRegisterRequest.UploadedImageDetail> images = IntStream.range(0, tempKeys.length)
+                .mapToObj(i -> new CheerRegisterRequest.UploadedImageDetail(tempKeys[i], i, "image/png", 1000L))
+                .toList();
+        CheerRegisterRequest request = new CheerRegisterRequest("123", "농민백암순대 본점", "맛있어요!",
+                images, List.of(CheerTagName.GOOD_FOR_DATING));
+        StoreSearchResult result = new StoreSearchResult(
+                "123", StoreCategory.KOREAN, "02-755-5232", "농민백암순대 본점", "http://place.map.kakao.com/123",
+                "서울시 강남구 역삼동 123-45", "서울시 강남구 역삼동 123-45", District.GANGNAM, 37.5665, 126.9780);
+        return cheerService.registerCheer(request, result, member.getId(), ImageDomain.CHEER).cheerId();
+    }
+
+    @Nested
+    class ReserveMoves {
+
+        @Test
+        void 응원_등록_시_이미지_이동_작업이_함께_저장된다() {
+            long cheerId = registerCheerWithImages("temp/1.png", "temp/2.png");
+
+            List<ImageMoveTask> tasks = imageMoveTaskRepository.findAll();
+
+            assertThat(tasks).extracting(ImageMoveTask::getPermanentKey)
+                    .containsExactlyInAnyOrder("cheer/" + cheerId + "/1.png", "cheer/" + cheerId + "/2.png");
+        }
+    }
+
+    @Nested
+    class MovePendingImages {
+
+        @Test
+        void 이동에_성공한_작업은_삭제된다() {
+            registerCheerWithImages("temp/1.png", "temp/2.png");
+            given(fileClient.moveTempFilesToPermanent(anyList()))
+                    .willAnswer(invocation -> invocation.<List<FileMove>>getArgument(0).stream()
+                            .map(fileMove -> new FileMoveResult(fileMove, FileMoveResult.Status.MOVED))
+                            .toList());
+
+            imageMoveService.movePendingImages();
+
+            assertThat(imageMoveTaskRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        void 이동에_실패한_작업은_나중에_다시_시도한다() {
+            long cheerId = registerCheerWithImages("temp/1.png");
+            FileMove fileMove = new FileMove("temp/1.png", "cheer/" + cheerId + "/1.png");
+            given(fileClient.moveTempFilesToPermanent(anyList()))
+                    .willReturn(List.of(new FileMoveResult(fileMove, FileMoveResult.Status.FAILED)));
+
+            imageMoveService.movePendingImages();
+
+            List<ImageMoveTask> tasks = imageMoveTaskRepository.findAll();
+            assertAll(
+                    () -> assertThat(tasks).hasSize(1),
+                    () -> assertThat(tasks.getFirst().getStatus()).isEqualTo(ImageMoveStatus.PENDING),
+                    () -> assertThat(tasks.getFirst().getAttemptCount()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        void 임시_파일만_남은_작업은_임시_파일_삭제만_다시_시도한다() {
+            long cheerId = registerCheerWithImages("temp/1.png");
+            FileMove fileMove = new FileMove("temp/1.png", "cheer/" + cheerId + "/1.png");
+            given(fileClient.moveTempFilesToPermanent(anyList()))
+                    .willReturn(List.of(new FileMoveResult(fileMove, FileMoveResult.Status.COPIED)));
+            given(fileClient.deleteFiles(anyList())).willReturn(List.of("temp/1.png"));
+
+            imageMoveService.movePendingImages();
+            imageMoveService.movePendingImages();
+
+            assertAll(
+                    () -> assertThat(imageMoveTaskRepository.findAll()).isEmpty(),
+                    () -> verify(fileClient, times(1)).moveTempFilesToPermanent(anyList()),
+                    () -> verify(fileClient).deleteFiles(List.of("temp/1.png"))
+            );
+        }
+
+        @Test
+        void 이동이_확인되기_전에는_임시_키를_제공하고_확인되면_영구_키로_바꾼다() {
+            long cheerId = registerCheerWithImages("temp/1.png");
+            List<String> keysBeforeMove = cheerImageRepository.findAll().stream()
+                    .map(CheerImage::getImageKey)
+                    .toList();
+            given(fileClient.moveTempFilesToPermanent(anyList()))
+                    .willAnswer(invocation -> invocation.<List<FileMove>>getArgument(0).stream()
+                            .map(fileMove -> new FileMoveResult(fileMove, FileMoveResult.Status.MOVED))
+                            .toList());
+
+            imageMoveService.movePendingImages();
+
+            assertAll(
+                    () -> assertThat(keysBeforeMove).containsExactly("temp/1.png"),
+                    () -> assertThat(cheerImageRepository.findAll()).extracting(CheerImage::getImageKey)
+                            .containsExactly("cheer/" + cheerId + "/1.png")
+            );
+        }
+
+        @Test
+        void 이동이_확인되면_해당_가게의_이미지_캐시만_비운다() {
+            registerCheerWithImages("temp/1.png");
+            long storeId = storeRepository.findByKakaoId("123").orElseThrow().getId();
+            long otherStoreId = storeId + 1;
+            Cache cache = cacheManager.getCache(CacheConfig.STORE_IMAGES);
+            cache.put(storeId, new ImagesResponse(List.of("temp-url")));
+            cache.put(otherStoreId, new ImagesResponse(List.of("other-url")));
+            given(fileClient.moveTempFilesToPermanent(anyList()))
+                    .willAnswer(invocation -> invocation.<List<FileMove>>getArgument(0).stream()
+                            .map(fileMove -> new FileMoveResult(fileMove, FileMoveResult.Status.MOVED))
+                            .toList());
+
+            imageMoveService.movePendingImages();
+
+            assertAll(
+                    () -> assertThat(cache.get(storeId)).isNull(),
+                    () -> assertThat(cache.get(otherStoreId)).isNotNull()
+            );
+        }
+
+        @Test
+        void 가져간_작업은_임대_시간_동안_다시_가져가지_않는다() {
+            registerCheerWithImages("temp/1.png");
+            given(fileClient.moveTempFilesToPermanent(anyList())).willThrow(new IllegalStateException());
+
+            assertThatThrownBy(() -> imageMoveService.movePendingImages())
+                    .isInstanceOf(IllegalStateException.class);
+            imageMoveService.movePendingImages();
+
+            verify(fileClient, times(1)).moveTempFilesToPermanent(anyList());
+        }
+
+        @Test
+        void 최대_횟수까지_실패한_작업은_실패_지표를_남긴다() {
+            ImageMoveTask task = new ImageMoveTask("temp/1.png", "cheer/1/1.png");
+            ReflectionTestUtils.setField(task, "attemptCount", 4);
+            imageMoveTaskRepository.save(task);
+            FileMove fileMove = new FileMove("temp/1.png", "cheer/1/1.png");
+            given(fileClient.moveTempFilesToPermanent(anyList()))
+                    .willReturn(List.of(new FileMoveResult(fileMove, FileMoveResult.Status.FAILED)));
+            double failedCountBefore = meterRegistry.counter("file.move.failed").count();
+
+            imageMoveService.movePendingImages();
+
+            assertAll(
+                    () -> assertThat(imageMoveTaskRepository.findAll()).extracting(ImageMoveTask::getStatus)
+                            .containsExactly(ImageMoveStatus.FAILED),
+                    () -> assertThat(meterRegistry.counter("file.move.failed").count())
+                            .isEqualTo(failedCountBefore + 1)
+            );
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package eatda.service.image;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import eatda.client.file.StoredFile;
+import eatda.domain.image.ImageMoveTask;
+import eatda.repository.image.ImageMoveTaskRepository;
+import eatda.service.BaseServiceTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class TempImageSweeperTest extends BaseServiceTest {
+
+    @Autowired
+    private TempImageSweeper tempImageSweeper;
+
+    @Autowired
+    private ImageMoveTaskRepository imageMoveTaskRepository;
+
+    @Nested
+    class SweepOrphanTempImages {
+
+        @Test
+        void 보관_기간이_지난_임시_파일만_삭제한다() {
+            Instant now = Instant.now();
+            given(fileClient.listFiles("temp/")).willReturn(Stream.of(
+                    new StoredFile("temp/old.png", now.minus(Duration.ofDays(2))),
+                    new StoredFile("temp/new.png", now.minus(Duration.ofMinutes(5)))));
+            given(fileClient.deleteFiles(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            tempImageSweeper.sweepOrphanTempImages();
+
+            verify(fileClient).deleteFiles(List.of("temp/old.png"));
+        }
+
+        @Test
+        void 이동_대기_중인_임시_파일은_삭제하지_않는다() {
+            Instant now = Instant.now();
+            imageMoveTaskRepository.save(new ImageMoveTask("temp/pending.png", "cheer/1/pending.png"));
+            given(fileClient.listFiles("temp/")).willReturn(Stream.of(
+                    new StoredFile("temp/orphan.png", now.minus(Duration.ofDays(2))),
+                    new StoredFile("temp/pending.png", now.minus(Duration.ofDays(2)))));
+            given(fileClient.deleteFiles(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            tempImageSweeper.sweepOrphanTempImages();
+
+            verify(fileClient).deleteFiles(List.of("temp/orphan.png"));
+        }
+    }
+}
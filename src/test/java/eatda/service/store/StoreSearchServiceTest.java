@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import eatda.client.map.MapClientStoreSearchResult;
+import eatda.domain.store.Store;
 import eatda.domain.store.StoreCategory;
 import eatda.domain.store.StoreSearchResult;
 import eatda.service.BaseServiceTest;
@@ -39,7 +42,23 @@ class StoreSearchServiceTest extends BaseServiceTest {
             assertAll(
                     () -> assertThat(response.kakaoId()).isEqualTo("123"),
                     () -> assertThat(response.category()).isEqualTo(StoreCategory.KOREAN),
-                    () -> assertThat(response.lotNumberAddress()).isEqualTo("서울 강남구 대치동 896-33")
+                    () -> assertThat(response.lotNumberAddress()).isEqualTo("서울 강남구 대치동 896-33"),
+                    () -> assertThat(response.isSaved()).isFalse()
+            );
+        }
+
+        @Test
+        void 저장된_음식점이면_카카오_API를_호출하지_않고_반환한다() {
+            Store store = storeGenerator.generate("123", "서울 강남구 대치동 896-33");
+
+            StoreSearchResult response = storeSearchService.searchStoreByKakaoId("농민백암순대", "123");
+
+            assertAll(
+                    () -> assertThat(response.kakaoId()).isEqualTo(store.getKakaoId()),
+                    () -> assertThat(response.name()).isEqualTo(store.getName()),
+                    () -> assertThat(response.lotNumberAddress()).isEqualTo(store.getLotNumberAddress()),
+                    () -> assertThat(response.storeId()).isEqualTo(store.getId()),
+                    () -> verify(mapClient, never()).searchStores(anyString())
             );
         }
     }
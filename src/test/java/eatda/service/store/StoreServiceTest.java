@@ -4,20 +4,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import eatda.controller.cheer.CheerRegisterRequest;
 import eatda.controller.store.ImagesResponse;
+import eatda.controller.store.StorePreviewResponse;
 import eatda.controller.store.StoreResponse;
 import eatda.controller.store.StoreSearchParameters;
 import eatda.controller.store.StoresInMemberResponse;
 import eatda.controller.store.StoresResponse;
+import eatda.controller.store.TagsResponse;
+import eatda.domain.ImageDomain;
 import eatda.domain.cheer.Cheer;
+import eatda.domain.cheer.CheerTagName;
 import eatda.domain.member.Member;
 import eatda.domain.store.District;
 import eatda.domain.store.Store;
 import eatda.domain.store.StoreCategory;
+import eatda.domain.store.StoreSearchResult;
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
 import eatda.service.BaseServiceTest;
+import eatda.service.cheer.CheerService;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +35,12 @@ class StoreServiceTest extends BaseServiceTest {
     @Autowired
     private StoreService storeService;
 
+    @Autowired
+    private CheerService cheerService;
+
+    @Autowired
+    private PopularStoreRanking popularStoreRanking;
+
     @Nested
     class GetStore {
 
@@ -61,6 +75,26 @@ class StoreServiceTest extends BaseServiceTest {
     @Nested
     class GetStores {
 
+        @Test
+        void 등록된_응원의_태그로_음식점을_필터링한다() {
+            storeFilterIndex.rebuild();
+            Member member = memberGenerator.generate("111");
+            CheerRegisterRequest request = new CheerRegisterRequest("112", "농민백암순대", "맛있어요!",
+                    List.of(), List.of(CheerTagName.INSTAGRAMMABLE));
+            StoreSearchResult result = new StoreSearchResult(
+                    "112", StoreCategory.KOREAN, "02-755-5232", "농민백암순대", "http://place.map.kakao.com/112",
+                    "서울 강남구 대치동 896-33", "서울 강남구 대치동 896-33", District.GANGNAM, 37.5665, 126.9780);
+            cheerService.registerCheer(request, result, member.getId(), ImageDomain.CHEER);
+            StoreSearchParameters parameters = new StoreSearchParameters(
+                    0, 5, null, List.of(CheerTagName.INSTAGRAMMABLE), null);
+
+            StoresResponse response = storeService.getStores(parameters);
+
+            Store store = storeRepository.findByKakaoId("112").orElseThrow();
+            assertThat(response.stores()).extracting(StorePreviewResponse::id)
+                    .containsExactly(store.getId());
+        }
+
         @Test
         void 모든_카테고리의_음식점_목록을_최신순으로_조회한다() {
             Member member1 = memberGenerator.generate("111", "ac@kakao.com", "nickname1");
@@ -90,6 +124,22 @@ class StoreServiceTest extends BaseServiceTest {
             );
         }
 
+        @Test
+        void 음식점마다_모든_응원_설명을_조회한다() {
+            Member member = memberGenerator.generate("111");
+            Store store = storeGenerator.generate("112", "서울 강남구 대치동 896-33");
+            cheerGenerator.generateCommon(member, store, false, "응원1");
+            cheerGenerator.generateCommon(member, store, false, "응원2");
+            cheerGenerator.generateCommon(member, store, false, "응원3");
+            cheerGenerator.generateCommon(member, store, false, "응원4");
+            StoreSearchParameters parameters = new StoreSearchParameters(0, 2, null, null, null);
+
+            var response = storeService.getStores(parameters);
+
+            assertThat(response.stores().getFirst().cheerDescriptions())
+                    .containsExactly("응원1", "응원2", "응원3", "응원4");
+        }
+
         @Test
         void 특정_카테고리의_음식점_목록을_최신순으로_조회한다() {
             Member member = memberGenerator.generate("111");
@@ -102,6 +152,7 @@ class StoreServiceTest extends BaseServiceTest {
             cheerGenerator.generateCommon(member, store1);
             cheerGenerator.generateCommon(member, store2);
             cheerGenerator.generateCommon(member, store3);
+            storeFilterIndex.rebuild();
             StoreSearchParameters parameters = new StoreSearchParameters(0, 2, StoreCategory.CAFE, null, null);
 
             StoresResponse response = storeService.getStores(parameters);
@@ -135,6 +186,61 @@ class StoreServiceTest extends BaseServiceTest {
             );
         }
 
+        @Test
+        void 커서_이후의_음식점_목록을_최신순으로_조회한다() {
+            Member member = memberGenerator.generate("111");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            Store store1 = storeGenerator.generate("농민백암순대", "서울 강남구 대치동 896-33", StoreCategory.KOREAN, startAt);
+            Store store2 = storeGenerator.generate("석관동떡볶이", "서울 성북구 석관동 123-45", StoreCategory.OTHER,
+                    startAt.plusHours(1));
+            Store store3 = storeGenerator.generate("강남순대국", "서울 강남구 역삼동 678-90", StoreCategory.KOREAN,
+                    startAt.plusHours(2));
+            cheerGenerator.generateCommon(member, store1);
+            cheerGenerator.generateCommon(member, store2);
+            cheerGenerator.generateCommon(member, store3);
+
+            StoresResponse firstPage = storeService.getStores(new StoreSearchParameters(0, 2, null, null, null));
+            StoresResponse secondPage = storeService.getStores(
+                    new StoreSearchParameters(0, 2, null, null, null, firstPage.nextCursor()));
+
+            assertAll(
+                    () -> assertThat(firstPage.stores()).extracting(StorePreviewResponse::id)
+                            .containsExactly(store3.getId(), store2.getId()),
+                    () -> assertThat(secondPage.stores()).extracting(StorePreviewResponse::id)
+                            .containsExactly(store1.getId()),
+                    () -> assertThat(secondPage.nextCursor()).isNull()
+            );
+        }
+
+        @Test
+        void 음식점마다_가장_최근_응원_이미지를_대표_이미지로_조회한다() {
+            Member member1 = memberGenerator.generate("111", "ac@kakao.com", "nickname1");
+            Member member2 = memberGenerator.generate("113", "ad@kakao.com", "nickname2");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            Store store1 = storeGenerator.generate("농민백암순대", "서울 강남구 대치동 896-33", StoreCategory.KOREAN, startAt);
+            Store store2 = storeGenerator.generate("석관동떡볶이", "서울 성북구 석관동 123-45", StoreCategory.OTHER,
+                    startAt.plusHours(1));
+            Store store3 = storeGenerator.generate("강남순대국", "서울 강남구 역삼동 678-90", StoreCategory.KOREAN,
+                    startAt.plusHours(2));
+            Cheer cheer1 = cheerGenerator.generateCommon(member1, store1);
+            Cheer cheer2 = cheerGenerator.generateCommon(member2, store1);
+            Cheer cheer3 = cheerGenerator.generateCommon(member1, store2);
+            cheerGenerator.generateCommon(member1, store3);
+            cheerImageGenerator.generate(cheer1, "cheer/1/old.png", 1L);
+            cheerImageGenerator.generate(cheer2, "cheer/2/new.png", 1L);
+            cheerImageGenerator.generate(cheer3, "cheer/3/only.png", 1L);
+            StoreSearchParameters parameters = new StoreSearchParameters(0, 5, null, null, null);
+
+            StoresResponse response = storeService.getStores(parameters);
+
+            assertAll(
+                    () -> assertThat(response.stores()).hasSize(3),
+                    () -> assertThat(response.stores().get(0).imageUrl()).isNull(),
+                    () -> assertThat(response.stores().get(1).imageUrl()).endsWith("/cheer/3/only.png"),
+                    () -> assertThat(response.stores().get(2).imageUrl()).endsWith("/cheer/2/new.png")
+            );
+        }
+
         @Test
         void 특정_카테고리의_음식점_목록을_페이지네이션하여_조회한다() {
             Member member = memberGenerator.generate("111");
@@ -147,6 +253,7 @@ class StoreServiceTest extends BaseServiceTest {
             cheerGenerator.generateCommon(member, store1);
             cheerGenerator.generateCommon(member, store2);
             cheerGenerator.generateCommon(member, store3);
+            storeFilterIndex.rebuild();
             StoreSearchParameters parameters = new StoreSearchParameters(1, 1, StoreCategory.KOREAN, null, null);
 
             var response = storeService.getStores(parameters);
@@ -156,6 +263,127 @@ class StoreServiceTest extends BaseServiceTest {
                     () -> assertThat(response.stores().get(0).id()).isEqualTo(store1.getId())
             );
         }
+
+        @Test
+        void 필터링한_음식점_목록을_커서로_이어서_조회한다() {
+            Member member = memberGenerator.generate("111");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            Store store1 = storeGenerator.generate("112", "서울 강남구 대치동 896-33", StoreCategory.CAFE, startAt);
+            Store store2 = storeGenerator.generate("113", "서울 성북구 석관동 123-45", StoreCategory.OTHER,
+                    startAt.plusHours(1));
+            Store store3 = storeGenerator.generate("114", "서울 강남구 역삼동 678-90", StoreCategory.CAFE,
+                    startAt.plusHours(2));
+            Store store4 = storeGenerator.generate("115", "서울 강남구 역삼동 678-91", StoreCategory.CAFE,
+                    startAt.plusHours(3));
+            cheerGenerator.generateCommon(member, store1);
+            cheerGenerator.generateCommon(member, store2);
+            cheerGenerator.generateCommon(member, store3);
+            cheerGenerator.generateCommon(member, store4);
+            storeFilterIndex.rebuild();
+
+            StoresResponse firstPage = storeService.getStores(
+                    new StoreSearchParameters(0, 2, StoreCategory.CAFE, null, null));
+            StoresResponse secondPage = storeService.getStores(
+                    new StoreSearchParameters(0, 2, StoreCategory.CAFE, null, null, firstPage.nextCursor()));
+
+            assertAll(
+                    () -> assertThat(firstPage.stores()).extracting(StorePreviewResponse::id)
+                            .containsExactly(store4.getId(), store3.getId()),
+                    () -> assertThat(firstPage.nextCursor()).isNotNull(),
+                    () -> assertThat(secondPage.stores()).extracting(StorePreviewResponse::id)
+                            .containsExactly(store1.getId()),
+                    () -> assertThat(secondPage.nextCursor()).isNull()
+            );
+        }
+
+        @Test
+        void 재구성_이후에_추가된_음식점은_갱신하면_필터링_결과에_포함된다() {
+            Member member = memberGenerator.generate("111");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            Store store1 = storeGenerator.generate("112", "서울 강남구 대치동 896-33", StoreCategory.CAFE, startAt);
+            cheerGenerator.generateCommon(member, store1);
+            storeFilterIndex.rebuild();
+            Store store2 = storeGenerator.generate("113", "서울 강남구 역삼동 678-90", StoreCategory.CAFE,
+                    startAt.plusHours(1));
+            cheerGenerator.generateCommon(member, store2);
+
+            storeFilterIndex.refresh();
+
+            StoresResponse response = storeService.getStores(
+                    new StoreSearchParameters(0, 5, StoreCategory.CAFE, null, null));
+            assertThat(response.stores()).extracting(StorePreviewResponse::id)
+                    .containsExactly(store2.getId(), store1.getId());
+        }
+
+        @Test
+        void 음식점_목록은_페이지_크기와_무관하게_고정된_수의_쿼리로_조회한다() {
+            Member member = memberGenerator.generate("111");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            for (int i = 0; i < 5; i++) {
+                Store store = storeGenerator.generate(String.valueOf(200 + i), "서울 강남구 역삼동 678-90",
+                        StoreCategory.KOREAN, startAt.plusHours(i));
+                Cheer cheer = cheerGenerator.generateCommon(member, store);
+                cheerImageGenerator.generate(cheer, "cheer/" + i + "/image.png", 1L);
+            }
+            storeFilterIndex.rebuild();
+
+            // 음식점 ID 페이지, 음식점, 대표 이미지, 응원 설명
+            StoresResponse smallPage = queryCounter.assertCount("StoreService.getStores(size=2)", 4,
+                    () -> storeService.getStores(new StoreSearchParameters(0, 2, null, null, null)));
+            StoresResponse largePage = queryCounter.assertCount("StoreService.getStores(size=5)", 4,
+                    () -> storeService.getStores(new StoreSearchParameters(0, 5, null, null, null)));
+            // 필터링은 메모리 인덱스에서 ID를 고르므로 ID 페이지 쿼리가 없다
+            StoresResponse filteredPage = queryCounter.assertCount("StoreService.getStores(category)", 3,
+                    () -> storeService.getStores(new StoreSearchParameters(0, 5, StoreCategory.KOREAN, null, null)));
+
+            assertAll(
+                    () -> assertThat(smallPage.stores()).hasSize(2),
+                    () -> assertThat(largePage.stores()).hasSize(5)
+                            .allSatisfy(store -> assertThat(store.imageUrl()).isNotNull()),
+                    () -> assertThat(filteredPage.stores()).hasSize(5)
+            );
+        }
+    }
+
+    @Nested
+    class GetStoreTags {
+
+        @Test
+        void 음식점_응원_태그들을_많이_달린_순으로_중복_없이_조회한다() {
+            Member member1 = memberGenerator.generate("111", "ac@kakao.com", "nickname1");
+            Member member2 = memberGenerator.generate("113", "ad@kakao.com", "nickname2");
+            Store store = storeGenerator.generate("농민백암순대", "서울 강남구 대치동 896-33");
+            Cheer cheer1 = cheerGenerator.generateCommon(member1, store);
+            Cheer cheer2 = cheerGenerator.generateCommon(member2, store);
+            cheerTagGenerator.generate(cheer1, List.of(CheerTagName.GOOD_FOR_DATING, CheerTagName.CLEAN_RESTROOM));
+            cheerTagGenerator.generate(cheer2, List.of(CheerTagName.GOOD_FOR_DATING));
+
+            TagsResponse response = storeService.getStoreTags(store.getId());
+
+            assertThat(response.tags()).containsExactly(
+                    CheerTagName.GOOD_FOR_DATING, CheerTagName.CLEAN_RESTROOM);
+        }
+
+        @Test
+        void 응원이_등록되면_캐시된_음식점_태그가_갱신된다() {
+            Member member = memberGenerator.generate("111");
+            Store store = storeGenerator.generate("농민백암순대", "서울 강남구 대치동 896-33");
+            TagsResponse cachedResponse = storeService.getStoreTags(store.getId());
+
+            CheerRegisterRequest request = new CheerRegisterRequest("농민백암순대", "농민백암순대 본점", "맛있어요!",
+                    List.of(), List.of(CheerTagName.GOOD_FOR_DATING));
+            StoreSearchResult result = new StoreSearchResult(
+                    "농민백암순대", StoreCategory.KOREAN, "02-755-5232", "농민백암순대 본점", "http://place.map.kakao.com/123",
+                    "서울 강남구 대치동 896-33", "서울 강남구 대치동 896-33", District.GANGNAM, 37.5665, 126.9780);
+            cheerService.registerCheer(request, result, member.getId(), ImageDomain.CHEER);
+
+            TagsResponse response = storeService.getStoreTags(store.getId());
+
+            assertAll(
+                    () -> assertThat(cachedResponse.tags()).isEmpty(),
+                    () -> assertThat(response.tags()).containsExactly(CheerTagName.GOOD_FOR_DATING)
+            );
+        }
     }
 
     @Nested
@@ -195,6 +423,51 @@ class StoreServiceTest extends BaseServiceTest {
         }
     }
 
+    @Nested
+    class GetPopularStores {
+
+        @Test
+        void 최근_응원이_많은_음식점_순으로_조회한다() {
+            Member member1 = memberGenerator.generateByEmail("111", "member1@kakao.com");
+            Member member2 = memberGenerator.generateByEmail("112", "member2@kakao.com");
+            Store store1 = storeGenerator.generate("113", "서울 강남구 대치동 896-33");
+            Store store2 = storeGenerator.generate("114", "서울 강남구 역삼동 678-90");
+            cheerGenerator.generateCommon(member1, store1);
+            cheerGenerator.generateCommon(member1, store2);
+            cheerGenerator.generateCommon(member2, store2);
+            popularStoreRanking.rebuild();
+
+            StoresResponse response = storeService.getPopularStores(new StoreSearchParameters(0, 5, null, null, null));
+
+            assertThat(response.stores()).extracting(StorePreviewResponse::id)
+                    .containsExactly(store2.getId(), store1.getId());
+        }
+
+        @Test
+        void 등록된_응원이_인기_음식점에_반영되고_카테고리로_필터링된다() {
+            popularStoreRanking.rebuild();
+            Member member = memberGenerator.generate("111");
+            registerCheer(member, "113", StoreCategory.KOREAN);
+            registerCheer(member, "114", StoreCategory.CAFE);
+
+            StoresResponse response = storeService.getPopularStores(
+                    new StoreSearchParameters(0, 5, StoreCategory.CAFE, null, null));
+
+            Store cafe = storeRepository.findByKakaoId("114").orElseThrow();
+            assertThat(response.stores()).extracting(StorePreviewResponse::id)
+                    .containsExactly(cafe.getId());
+        }
+
+        private void registerCheer(Member member, String kakaoId, StoreCategory category) {
+            CheerRegisterRequest request = new CheerRegisterRequest(kakaoId, "농민백암순대", "맛있어요!",
+                    List.of(), List.of());
+            StoreSearchResult result = new StoreSearchResult(
+                    kakaoId, category, "02-755-5232", "농민백암순대", "http://place.map.kakao.com/" + kakaoId,
+                    "서울 강남구 대치동 896-33", "서울 강남구 대치동 896-33", District.GANGNAM, 37.5665, 126.9780);
+            cheerService.registerCheer(request, result, member.getId(), ImageDomain.CHEER);
+        }
+    }
+
     @Nested
     class GetStoresByCheeredMember {
 
@@ -3,16 +3,14 @@ package eatda.service.story;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.BDDMockito.given;
 
+import eatda.controller.cheer.CheerRegisterRequest;
 import eatda.controller.story.StoriesDetailResponse;
 import eatda.controller.story.StoriesResponse;
 import eatda.controller.story.StoryImageResponse;
 import eatda.controller.story.StoryRegisterRequest;
 import eatda.controller.story.StoryResponse;
+import eatda.domain.Cursor;
 import eatda.domain.ImageDomain;
 import eatda.domain.member.Member;
 import eatda.domain.store.District;
@@ -23,6 +21,7 @@ import eatda.domain.story.Story;
 import eatda.exception.BusinessErrorCode;
 import eatda.exception.BusinessException;
 import eatda.service.BaseServiceTest;
+import eatda.service.cheer.CheerService;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -30,9 +29,13 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 class StoryServiceTest extends BaseServiceTest {
 
+    @Autowired
+    private CheerService cheerService;
+
     @Nested
     @Transactional
     class RegisterStory {
@@ -71,6 +74,32 @@ class StoryServiceTest extends BaseServiceTest {
             );
         }
 
+        @Test
+        void 가게가_저장되어_있으면_스토리에_가게_ID를_연결한다() {
+            Store store = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+            StoryRegisterRequest request =
+                    new StoryRegisterRequest("곱창", "123", "미쳤다 여기", List.of());
+
+            var response = storyService.registerStory(
+                    request, storeSearchResult, ImageDomain.STORY, member.getId());
+
+            Story savedStory = storyRepository.findById(response.storyId()).orElseThrow();
+            assertThat(savedStory.getStoreId()).isEqualTo(store.getId());
+        }
+
+        @Test
+        void 검색_단계에서_찾은_가게가_있으면_해당_가게_ID를_연결한다() {
+            Store store = storeGenerator.generate("123", "서울시 강남구 역삼동 123-45");
+            StoryRegisterRequest request =
+                    new StoryRegisterRequest("곱창", "123", "미쳤다 여기", List.of());
+
+            var response = storyService.registerStory(
+                    request, StoreSearchResult.from(store), ImageDomain.STORY, member.getId());
+
+            Story savedStory = storyRepository.findById(response.storyId()).orElseThrow();
+            assertThat(savedStory.getStoreId()).isEqualTo(store.getId());
+        }
+
         @Test
         void 스토리_등록_시_이미지도_함께_저장된다() {
             StoryRegisterRequest.UploadedImageDetail image2 =
@@ -80,21 +109,18 @@ class StoryServiceTest extends BaseServiceTest {
             StoryRegisterRequest request =
                     new StoryRegisterRequest("곱창", "123", "미쳤다 여기", List.of(image2, image1));
 
-            List<String> permanentKeys = List.of("permanent/path/1", "permanent/path/2");
-            given(fileClient.moveTempFilesToPermanent(any(String.class), anyLong(), anyList()))
-                    .willReturn(permanentKeys);
-
             var response = storyService.registerStory(
                     request, storeSearchResult, ImageDomain.STORY, member.getId());
 
             Story savedStory = storyRepository.findById(response.storyId()).orElseThrow();
+            long storyId = response.storyId();
 
             assertAll(
                     () -> assertThat(savedStory.getImages()).hasSize(2),
                     () -> assertThat(savedStory.getImages()).extracting(img -> img.getOrderIndex())
                             .containsExactly(1L, 2L),
                     () -> assertThat(savedStory.getImages()).extracting(img -> img.getImageKey())
-                            .containsExactlyElementsOf(permanentKeys)
+                            .containsExactly("temp-key-1", "temp-key-2")
             );
         }
     }
@@ -111,7 +137,9 @@ class StoryServiceTest extends BaseServiceTest {
 
             Story story2 = storyGenerator.generate(member, "2", "순대국밥집");
 
-            var response = storyService.getPagedStoryPreviews(5);
+            // 스토리 페이지, 이미지
+            var response = queryCounter.assertCount("StoryService.getPagedStoryPreviews", 2,
+                    () -> storyService.getPagedStoryPreviews(null, 5));
 
             assertThat(response.stories()).hasSize(2)
                     .extracting(StoriesResponse.StoryPreview::storyId)
@@ -125,6 +153,26 @@ class StoryServiceTest extends BaseServiceTest {
                     .isSortedAccordingTo(Comparator.comparingLong(StoryImageResponse::orderIndex));
             assertThat(storyPreview1.images().get(0).orderIndex()).isEqualTo(1L);
         }
+
+        @Test
+        void 커서_이후의_스토리_목록을_조회할_수_있다() {
+            Member member = memberGenerator.generate("12345");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 26, 1, 0, 0);
+            Story story1 = storyGenerator.generate(member, "1", "곱창집", startAt);
+            Story story2 = storyGenerator.generate(member, "2", "순대국밥집", startAt.plusHours(1));
+            Story story3 = storyGenerator.generate(member, "3", "떡볶이집", startAt.plusHours(2));
+
+            StoriesResponse firstPage = storyService.getPagedStoryPreviews(null, 2);
+            StoriesResponse secondPage = storyService.getPagedStoryPreviews(Cursor.decode(firstPage.nextCursor()), 2);
+
+            assertAll(
+                    () -> assertThat(firstPage.stories()).extracting(StoriesResponse.StoryPreview::storyId)
+                            .containsExactly(story3.getId(), story2.getId()),
+                    () -> assertThat(secondPage.stories()).extracting(StoriesResponse.StoryPreview::storyId)
+                            .containsExactly(story1.getId()),
+                    () -> assertThat(secondPage.nextCursor()).isNull()
+            );
+        }
     }
 
     @Nested
@@ -141,7 +189,9 @@ class StoryServiceTest extends BaseServiceTest {
 
         @Test
         void 스토리_상세_정보를_조회할_때_스토어ID가_없으면_NULL로_반환된다() {
-            StoryResponse response = storyService.getStory(story.getId());
+            // 스토리, 이미지, 작성자
+            StoryResponse response = queryCounter.assertCount("StoryService.getStory", 3,
+                    () -> storyService.getStory(story.getId()));
 
             assertAll(
                     () -> assertThat(response.storeId()).isNull(),
@@ -151,11 +201,17 @@ class StoryServiceTest extends BaseServiceTest {
 
         @Test
         void 스토리_상세_정보를_조회할_때_스토어ID가_있으면_해당_값을_반환한다() {
-            Store store = storeRepository.save(
-                    storeGenerator.generate("123456", "진또곱창집"));
+            Member cheerMember = memberGenerator.generateByEmail("88888", "cheer@kakao.com");
+            CheerRegisterRequest request = new CheerRegisterRequest("123456", "진또곱창집", "맛있어요!",
+                    List.of(), List.of());
+            StoreSearchResult result = new StoreSearchResult(
+                    "123456", StoreCategory.KOREAN, "02-755-5232", "진또곱창집", "http://place.map.kakao.com/123456",
+                    "서울시 강남구 역삼동 123-45", "서울시 강남구 사사로 3길 12-24", District.GANGNAM, 37.5665, 126.9780);
+            cheerService.registerCheer(request, result, cheerMember.getId(), ImageDomain.CHEER);
 
             StoryResponse response = storyService.getStory(story.getId());
 
+            Store store = storeRepository.findByKakaoId("123456").orElseThrow();
             assertAll(
                     () -> assertThat(response.storeId()).isEqualTo(store.getId()),
                     () -> assertThat(response.storeKakaoId()).isEqualTo("123456")
@@ -185,7 +241,9 @@ class StoryServiceTest extends BaseServiceTest {
             Story story2 = storyGenerator.generate(member, kakaoId, "진또곱창집");
             storyGenerator.generate(member, "other-id", "다른집");
 
-            var response = storyService.getPagedStoryDetails(kakaoId, 5);
+            // 작성자를 포함한 스토리 페이지, 이미지
+            var response = queryCounter.assertCount("StoryService.getPagedStoryDetails", 2,
+                    () -> storyService.getPagedStoryDetails(kakaoId, 5));
 
             assertThat(response.stories()).hasSize(2)
                     .extracting(StoriesDetailResponse.StoryDetailResponse::storyId)
@@ -244,6 +302,28 @@ class StoryServiceTest extends BaseServiceTest {
             );
         }
 
+        @Test
+        void 회원_ID로_조회한_스토리에_이미지가_순서대로_포함된다() {
+            Member member = memberGenerator.generate("12345");
+            LocalDateTime startAt = LocalDateTime.of(2025, 7, 23, 10, 0);
+            Story story1 = storyGenerator.generate(member, "123456", "곱창집", startAt);
+            Story story2 = storyGenerator.generate(member, "123457", "순대국밥집", startAt.plusDays(1));
+            storyImageGenerator.generate(story1, "key1-2", 2L, "image/jpeg", 200L);
+            storyImageGenerator.generate(story1, "key1-1", 1L, "image/jpeg", 100L);
+
+            // 스토리 페이지, 이미지
+            var response = queryCounter.assertCount("StoryService.getPagedStoryByMemberId", 2,
+                    () -> storyService.getPagedStoryByMemberId(member.getId(), 0, 5));
+
+            assertAll(
+                    () -> assertThat(response.stories().get(0).id()).isEqualTo(story2.getId()),
+                    () -> assertThat(response.stories().get(0).images()).isEmpty(),
+                    () -> assertThat(response.stories().get(1).images())
+                            .extracting(StoryImageResponse::orderIndex)
+                            .containsExactly(1L, 2L)
+            );
+        }
+
         @Test
         void 회원_ID로_스토리_목록을_조회할_때_존재하지_않는_ID를_요청하면_빈_목록을_반환한다() {
             long nonExistentMemberId = 999L;